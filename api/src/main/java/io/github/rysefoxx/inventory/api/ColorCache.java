@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.api;
+
+import java.util.function.IntFunction;
+
+/**
+ * Caches colors by their packed RGB value, so a color is usually only resolved once and the same instance is shared.
+ * <br>
+ * The cache is a fixed size table indexed by a hash of the packed value, so lookups do not box the key and the cache
+ * never grows. If two values share a slot, the newer one replaces the older one, which is then resolved again the
+ * next time it is used. The table may be read and written by several threads. An entry is immutable, so a thread sees
+ * either a complete entry or a missing one, and a missing entry is only resolved once more.
+ *
+ * @param <T> The color type.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+public final class ColorCache<T> {
+
+    private static final int DEFAULT_BITS = 10;
+
+    private final Entry<T>[] entries;
+    private final int shift;
+    private final IntFunction<T> factory;
+
+    /**
+     * Creates a cache for 1024 colors.
+     *
+     * @param factory Creates the color of a packed RGB value.
+     */
+    public ColorCache(IntFunction<T> factory) {
+        this(factory, DEFAULT_BITS);
+    }
+
+    /**
+     * @param factory Creates the color of a packed RGB value.
+     * @param bits    The cache holds 2^bits colors, from 1 to 24.
+     * @throws IllegalArgumentException If bits is not between 1 and 24.
+     */
+    @SuppressWarnings("unchecked")
+    public ColorCache(IntFunction<T> factory, int bits) {
+        if (bits < 1 || bits > 24)
+            throw new IllegalArgumentException("The cache must hold between 2^1 and 2^24 colors.");
+
+        this.entries = (Entry<T>[]) new Entry[1 << bits];
+        this.shift = 32 - bits;
+        this.factory = factory;
+    }
+
+    /**
+     * Packs the components into one int in the form 0xRRGGBB.
+     *
+     * @param red   The red value from 0 to 255.
+     * @param green The green value from 0 to 255.
+     * @param blue  The blue value from 0 to 255.
+     * @return The packed RGB value.
+     */
+    public static int pack(int red, int green, int blue) {
+        return (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+    }
+
+    /**
+     * Parses a hex color in the form #RRGGBB.
+     *
+     * @param hex The hex color.
+     * @return The packed RGB value or -1 if the input is not in the form #RRGGBB.
+     */
+    public static int parseHex(String hex) {
+        if (hex == null || hex.length() != 7 || hex.charAt(0) != '#') return -1;
+
+        int rgb = 0;
+        for (int i = 1; i < 7; i++) {
+            int digit = Character.digit(hex.charAt(i), 16);
+            if (digit == -1) return -1;
+            rgb = rgb << 4 | digit;
+        }
+        return rgb;
+    }
+
+    /**
+     * Formats a packed RGB value in the form #rrggbb.
+     *
+     * @param rgb The packed RGB value.
+     * @return The hex color.
+     */
+    public static String toHex(int rgb) {
+        String hex = Integer.toHexString(rgb & 0xFFFFFF);
+        return "#000000".substring(0, 7 - hex.length()) + hex;
+    }
+
+    /**
+     * @param rgb The packed RGB value.
+     * @return The cached color of the value. It is created if the value is not cached.
+     */
+    public T get(int rgb) {
+        int index = (rgb * 0x9E3779B9) >>> this.shift;
+        Entry<T> entry = this.entries[index];
+        if (entry != null && entry.rgb == rgb) return entry.color;
+
+        T color = this.factory.apply(rgb);
+        this.entries[index] = new Entry<>(rgb, color);
+        return color;
+    }
+
+    private static final class Entry<T> {
+
+        private final int rgb;
+        private final T color;
+
+        private Entry(int rgb, T color) {
+            this.rgb = rgb;
+            this.color = color;
+        }
+    }
+}
@@ -12,6 +12,8 @@ repositories {
 }
 
 dependencies {
+    implementation(project(":v1_21"))
+    implementation(project(":v1_20"))
     implementation(project(":v1_19"))
     implementation(project(":v1_18"))
     implementation(project(":v1_17"))
@@ -29,6 +31,11 @@ dependencies {
 
     annotationProcessor("org.projectlombok:lombok:1.18.34")
     compileOnly("org.projectlombok:lombok:1.18.34")
+
+    testImplementation("org.spigotmc:spigot-api:1.20.1-R0.1-SNAPSHOT")
+    testImplementation(platform("org.junit:junit-bom:5.10.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 publishing {
@@ -63,7 +70,15 @@ publishing {
 
 tasks {
     shadowJar {
-        minimize()
+        // The version modules are only loaded by name at runtime, so minimize can not see that they are used.
+        minimize {
+            exclude(project(":v1_16"))
+            exclude(project(":v1_17"))
+            exclude(project(":v1_18"))
+            exclude(project(":v1_19"))
+            exclude(project(":v1_20"))
+            exclude(project(":v1_21"))
+        }
 
         archiveClassifier.set("")
         relocate("net.wesjd.anvilgui", "io.github.rysefoxx.inventory.anvilgui")
@@ -72,6 +87,10 @@ tasks {
         exclude("io/github/rysefoxx/inventory/plugin/ItemBuilder.class")
     }
 
+    test {
+        useJUnitPlatform()
+    }
+
     build {
         dependsOn(shadowJar)
     }
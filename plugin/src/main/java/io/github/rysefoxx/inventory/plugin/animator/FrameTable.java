@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import com.google.common.base.Preconditions;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
+import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The complete output of a text animation, computed once when the animator is built.
+ * <br>
+ * Every entry is the text of one animation step. An entry is null if the step does not change the text, e.g. because
+ * a space is colored. Looping animations repeat the entries from {@link #loopStart} on, all others end after the last
+ * entry. The table is immutable, so animators that were copied from a preset use the same table.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+final class FrameTable {
+
+    static final FrameTable EMPTY = new FrameTable(new String[0], -1);
+
+    private final String[] frames;
+    private final int loopStart;
+
+    private FrameTable(String @NotNull [] frames, int loopStart) {
+        this.frames = frames;
+        this.loopStart = loopStart;
+    }
+
+    /**
+     * Runs the animation of the given type step by step and records the text of every step. A looping animation is
+     * recorded until it reaches a frame a second time, because from there on it repeats itself.
+     * <br>
+     * A {@link IntelligentItemAnimatorType#FULL_WORD} step shows the colored letters up to the current one, followed
+     * by the rest of the text in white.
+     *
+     * @param type        The animation type.
+     * @param text        The text without colors.
+     * @param frames      The frames of the animation.
+     * @param frameColor  The color of every frame character.
+     * @param loop        Whether the animation repeats itself.
+     * @param cycleLength How many steps are taken per frame. For {@link IntelligentItemAnimatorType#FLASH} this may
+     *                    differ from the length of the text.
+     * @return The compiled table.
+     * @throws IllegalArgumentException if a frame is empty.
+     */
+    static @NotNull FrameTable compile(@NotNull IntelligentItemAnimatorType type,
+                                       @NotNull String text,
+                                       @NotNull List<String> frames,
+                                       @NotNull Map<Character, IntelligentItemColor> frameColor,
+                                       boolean loop,
+                                       @Nonnegative int cycleLength) throws IllegalArgumentException {
+        for (String frame : frames)
+            Preconditions.checkArgument(!frame.isEmpty(), "A frame must not be empty.");
+
+        if (frames.isEmpty() || cycleLength == 0 || (type != IntelligentItemAnimatorType.FLASH && text.isEmpty()))
+            return EMPTY;
+
+        List<String> remaining = new ArrayList<>(frames);
+        List<String> output = new ArrayList<>();
+        StringBuilder colored = new StringBuilder();
+
+        int[] cycleStarts = new int[frames.size()];
+        Arrays.fill(cycleStarts, -1);
+
+        int frameIndex = 0;
+        while (true) {
+            if (loop) {
+                if (cycleStarts[frameIndex] != -1)
+                    return new FrameTable(output.toArray(new String[0]), cycleStarts[frameIndex]);
+                cycleStarts[frameIndex] = output.size();
+            }
+
+            int colorState = 0;
+            colored.setLength(0);
+
+            for (int index = 0; index < cycleLength; index++) {
+                if (colorState >= remaining.get(frameIndex).length()) {
+                    colorState = 0;
+                    if (remaining.size() > 1 && frameIndex + 1 != remaining.size())
+                        frameIndex++;
+                }
+
+                char frameCharacter = remaining.get(frameIndex).charAt(colorState);
+                String prefix = frameColor.get(frameCharacter).getPrefix();
+
+                if (type == IntelligentItemAnimatorType.FLASH) {
+                    output.add(prefix + text);
+                    colorState++;
+                    continue;
+                }
+
+                char letter = text.charAt(index);
+                colored.append(prefix).append(letter);
+
+                if (letter == ' ') {
+                    output.add(null);
+                    continue;
+                }
+
+                colorState++;
+                output.add(type == IntelligentItemAnimatorType.FULL_WORD
+                        ? colored + ChatColor.WHITE.toString() + text.substring(index + 1)
+                        : colored.toString());
+            }
+
+            if (!loop)
+                remaining.remove(0);
+
+            if (remaining.isEmpty())
+                return new FrameTable(output.toArray(new String[0]), -1);
+
+            if (frameIndex + 1 >= remaining.size())
+                frameIndex = 0;
+        }
+    }
+
+    /**
+     * Records a text that is typed letter by letter without colors. Every step adds the next letter.
+     *
+     * @param text The text without colors.
+     * @param loop Whether the text is typed again once it is complete.
+     * @return The compiled table.
+     */
+    static @NotNull FrameTable typing(@NotNull String text, boolean loop) {
+        String[] frames = new String[text.length()];
+        for (int i = 0; i < frames.length; i++)
+            frames[i] = text.substring(0, i + 1);
+
+        return new FrameTable(frames, loop && frames.length > 0 ? 0 : -1);
+    }
+
+    /**
+     * @return The number of recorded steps.
+     */
+    int length() {
+        return this.frames.length;
+    }
+
+    /**
+     * @return The index of the first entry that is repeated, or -1 if the animation does not loop.
+     */
+    int loopStart() {
+        return this.loopStart;
+    }
+
+    /**
+     * @return true if the table has no steps at all.
+     */
+    boolean isEmpty() {
+        return this.frames.length == 0;
+    }
+
+    /**
+     * @param step The step, counted from the start of the animation.
+     * @return true if the animation does not loop and the step lies behind the last entry.
+     */
+    boolean isFinished(@Nonnegative int step) {
+        return step >= this.frames.length && this.loopStart == -1;
+    }
+
+    /**
+     * @param step The step, counted from the start of the animation.
+     * @return The index of the entry that is shown in this step, or -1 if the animation is finished.
+     */
+    int indexOf(@Nonnegative int step) {
+        if (step < this.frames.length) return step;
+        if (this.loopStart == -1) return -1;
+
+        return this.loopStart + (step - this.loopStart) % (this.frames.length - this.loopStart);
+    }
+
+    /**
+     * @param step The step, counted from the start of the animation.
+     * @return The text of the step, or null if the step does not change the text or the animation is finished.
+     */
+    @Nullable String frameAt(@Nonnegative int step) {
+        int index = indexOf(step);
+        return index == -1 ? null : this.frames[index];
+    }
+}
@@ -31,6 +31,7 @@ import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
 import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
@@ -42,10 +43,11 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,8 +58,13 @@ import java.util.Map;
  */
 public class IntelligentItemLoreAnimator {
 
+    /**
+     * Lore animations with more distinct steps than this do not keep their items.
+     */
+    private static final int MAX_BAKED_FRAMES = 4096;
+
     private static Plugin plugin;
-    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final List<AnimationEngine.AnimationTask> tasks = new ArrayList<>();
     private IntelligentItem intelligentItem;
     private HashMap<Integer, String> loreData = new HashMap<>();
     private HashMap<Character, IntelligentItemColor> frameColor = new HashMap<>();
@@ -69,7 +76,11 @@ public class IntelligentItemLoreAnimator {
     private List<String> lore;
     private RyseInventory inventory;
     private InventoryContents contents;
-    private ItemStack itemStack;
+    private int[] loreLines;
+    private FrameTable[] loreTables;
+    private ItemStack[] bakedFrames;
+    private int loopStart = -1;
+    private int loopLength;
     private Object identifier;
 
     @Contract("_ -> new")
@@ -82,8 +93,8 @@ public class IntelligentItemLoreAnimator {
      * This starts the animation for the item.
      */
     public void animate() {
-        this.inventory.addLoreAnimator(this);
-        animateByType();
+        this.inventory.addLoreAnimator(this.contents.getPlayer().getUniqueId(), this);
+        animateFrames();
     }
 
     /**
@@ -95,316 +106,113 @@ public class IntelligentItemLoreAnimator {
         if (this.tasks.isEmpty())
             return false;
 
-        this.tasks.stream()
-                .filter(task -> task != null && task.getExecutionState() == ScheduledTask.ExecutionState.IDLE)
-                .forEach(ScheduledTask::cancel);
+        this.tasks.forEach(AnimationEngine.AnimationTask::cancel);
         return true;
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Shows the next step of the precompiled frame table of every animated lore line. All lines are advanced by the
+     * same task, so the item is written at most once per step. Once no line has a step left, the animator is removed.
      */
-    private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
-
-    /**
-     * It loops through each frame of each line of lore, and updates the lore with the current frame
-     */
-    private void animateWithFlash() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            ScheduledTask scheduledTask = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                    .runAtFixedRate(new Runnable() {
-                        final HashMap<Integer, String> framesCopy = loreData;
-
-                        int subStringIndex = 0;
-                        int colorState = 0;
-                        int currentFrameIndex = 0;
-
-                        @Override
-                        public void run() {
-                            int loreIndex = entry.getKey();
-                            String frame = framesCopy.get(loreIndex);
-                            char[] currentFrames = frame.toCharArray();
-
-                            resetWhenFrameFinished(loreIndex, currentFrames);
-
-                            if (cancelIfListIsEmpty()) return;
-
-                            char singleFrame = currentFrames[this.colorState];
-                            IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                            String currentLore = buildLore(loreIndex, itemColor);
-
-                            this.colorState++;
-                            this.subStringIndex++;
-                            updateLore(contents, currentLore, loreIndex);
+    private void animateFrames() {
+        AnimationEngine.AnimationTask animationTask = inventory.getManager().getAnimationEngine()
+                .schedule(new Runnable() {
+                    final String[] currentLore = lore.toArray(new String[0]);
+
+                    int step = 0;
+                    ItemStack lastFrame;
+
+                    @Override
+                    public void run() {
+                        if (isFinished()) {
+                            if (this.lastFrame != null)
+                                contents.update(slot, new ItemStack(this.lastFrame));
+                            inventory.removeLoreAnimator(contents.getPlayer().getUniqueId(), IntelligentItemLoreAnimator.this);
+                            return;
                         }
 
-                        @NotNull
-                        private String buildLore(@Nonnegative int loreIndex, @NotNull IntelligentItemColor itemColor) {
-                            return itemColor.getColor()
-                                    + (itemColor.isBold() ? "§l" : "")
-                                    + (itemColor.isUnderline() ? "§n" : "")
-                                    + (itemColor.isItalic() ? "§o" : "")
-                                    + (itemColor.isObfuscated() ? "§k" : "")
-                                    + (itemColor.isStrikeThrough() ? "§m" : "")
-                                    + ChatColor.stripColor(lore.get(loreIndex));
-                        }
+                        boolean changed = false;
+                        for (int i = 0; i < loreTables.length; i++) {
+                            String frame = loreTables[i].frameAt(this.step);
+                            if (frame == null) continue;
 
-                        private boolean cancelIfListIsEmpty() {
-                            if (this.framesCopy.isEmpty()) {
-                                inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                                return true;
-                            }
-                            return false;
+                            this.currentLore[loreLines[i]] = frame;
+                            changed = true;
                         }
 
-                        private void resetWhenFrameFinished(@Nonnegative int loreIndex, char @NotNull [] currentFrames) {
-                            if (this.subStringIndex < currentFrames.length) return;
+                        int step = this.step;
+                        if (this.step < Integer.MAX_VALUE)
+                            this.step++;
 
-                            if (!loop)
-                                this.framesCopy.remove(loreIndex);
-                            this.colorState = 0;
-                            this.subStringIndex = 0;
+                        if (!changed) return;
+                        this.lastFrame = updateLore(contents, step, this.currentLore);
+                    }
 
-                            if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                            this.currentFrameIndex = 0;
+                    private boolean isFinished() {
+                        for (FrameTable table : loreTables) {
+                            if (!table.isFinished(this.step)) return false;
                         }
-
-                    }, this.delay, this.period);
-            this.tasks.add(scheduledTask);
-        }
+                        return true;
+                    }
+                }, this.delay, this.period);
+        this.tasks.add(animationTask);
     }
 
     /**
-     * It takes a list of frames, and animates them by coloring each letter of the lore
+     * It updates the lore of the item in the slot
+     * <p>
+     * The item of a step is only built the first time the step is shown. After that the same item is used again, also
+     * by animators that were copied from this one. The step is therefore only shown and never stored in the contents,
+     * the item in the slot keeps its original lore until the animation is over.
+     *
+     * @param contents The InventoryContents object that contains the current state of the inventory.
+     * @param step     The step of the animation.
+     * @param lore     The new lore to set.
+     * @return The item of the step.
      */
-    private void animateByFullWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            ScheduledTask scheduledTask = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                    .runAtFixedRate(new Runnable() {
-                        final HashMap<Integer, String> framesCopy = loreData;
-                        final List<String> previous = new ArrayList<>();
-
-                        int colorState = 0;
-                        int subStringIndex = 0;
-                        int currentFrameIndex = 0;
+    private @NotNull ItemStack updateLore(@NotNull InventoryContents contents,
+                                          @Nonnegative int step,
+                                          String @NotNull [] lore) {
+        int index = bakedIndex(step);
+        ItemStack itemStack = index == -1 ? null : this.bakedFrames[index];
 
-                        @Override
-                        public void run() {
-                            int loreIndex = entry.getKey();
-                            String frame = framesCopy.get(loreIndex);
-                            String currentLoreFixed = lore.get(loreIndex);
+        if (itemStack == null) {
+            itemStack = new ItemStack(this.intelligentItem.getItemStack());
 
-                            String currentLore = lore.get(loreIndex);
-                            char[] letters = currentLore.toCharArray();
-                            char[] currentFrames = frame.toCharArray();
+            ItemMeta itemMeta = itemStack.getItemMeta();
+            itemMeta.setLore(Arrays.asList(lore.clone()));
+            itemStack.setItemMeta(itemMeta);
 
-                            resetWhenFrameFinished(letters);
-
-                            if (cancelIfListIsEmpty()) return;
-
-                            if (this.colorState >= currentFrames.length)
-                                this.colorState = 0;
-
-                            char singleFrame = currentFrames[this.colorState];
-                            IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                            String letter = String.valueOf(letters[this.subStringIndex]);
-                            String rest = currentLoreFixed.substring(this.subStringIndex + 1);
-                            boolean addColor = !letter.equals(" ");
-
-                            StringBuilder newString = buildLoreBasedOnPrevious(itemColor, letter);
-
-                            currentLore = newString
-                                    .append(ChatColor.WHITE).append(rest)
-                                    .toString();
-
-                            this.previous.add(newString.toString());
-
-                            this.subStringIndex++;
-
-                            if (!addColor) return;
-
-                            this.colorState++;
-                            updateLore(contents, currentLore, loreIndex);
-                        }
-
-                        @NotNull
-                        private StringBuilder buildLoreBasedOnPrevious(IntelligentItemColor itemColor, String letter) {
-                            StringBuilder newString = new StringBuilder();
-                            if (this.subStringIndex != 0)
-                                this.previous.forEach(newString::append);
-
-                            newString.append(itemColor.getColor())
-                                    .append(itemColor.isBold() ? "§l" : "")
-                                    .append(itemColor.isUnderline() ? "§n" : "")
-                                    .append(itemColor.isItalic() ? "§o" : "")
-                                    .append(itemColor.isObfuscated() ? "§k" : "")
-                                    .append(itemColor.isStrikeThrough() ? "§m" : "")
-                                    .append(letter);
-                            return newString;
-                        }
-
-                        private boolean cancelIfListIsEmpty() {
-                            if (this.framesCopy.isEmpty()) {
-                                inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                                return true;
-                            }
-                            return false;
-                        }
-
-                        private void resetWhenFrameFinished(char @NotNull [] letters) {
-                            if (this.subStringIndex < letters.length) return;
-
-                            if (!loop)
-                                this.framesCopy.remove(0);
-                            this.colorState = 0;
-                            this.subStringIndex = 0;
-                            this.previous.clear();
-
-                            if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                            this.currentFrameIndex = 0;
-                        }
-                    }, this.delay, this.period);
-            this.tasks.add(scheduledTask);
+            if (index != -1)
+                this.bakedFrames[index] = itemStack;
         }
-    }
-
-    /**
-     * It loops through each frame, and then loops through each letter in the frame, and then loops through each color in
-     * the frame, and then adds the color to the letter, and then adds the letter to the lore
-     */
-    private void animateWordByWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            ScheduledTask scheduledTask = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                    .runAtFixedRate(new Runnable() {
-                        final HashMap<Integer, String> framesCopy = loreData;
-
-                        int colorState = 0;
-                        int subStringIndex = 0;
-                        int currentFrameIndex = 0;
-                        String currentLore = "";
 
-                        @Override
-                        public void run() {
-                            int loreIndex = entry.getKey();
-                            String frame = framesCopy.get(loreIndex);
-                            String savedLore = ChatColor.stripColor(lore.get(loreIndex));
-
-                            char[] currentFrames = frame.toCharArray();
-                            char[] letters = !this.currentLore.isEmpty() ? ChatColor.stripColor(lore.get(loreIndex)).toCharArray() : savedLore.toCharArray();
-
-                            resetWhenFrameFinished(letters);
-
-                            if (cancelWhenListIsEmpty()) return;
-
-                            currentFrames = updateFramesWhenRequired(currentFrames);
-                            String letter = String.valueOf(letters[this.subStringIndex]);
-                            boolean addColor = !letter.equals(" ");
-
-                            char singleFrame = currentFrames[this.colorState];
-                            IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                            appendLetterToLore(letter, itemColor);
-
-                            this.subStringIndex++;
-
-                            if (!addColor) return;
-
-                            this.colorState++;
-                            updateLore(contents, this.currentLore, loreIndex);
-                        }
-
-                        private void appendLetterToLore(String letter, @NotNull IntelligentItemColor itemColor) {
-                            this.currentLore = this.currentLore +
-                                    itemColor.getColor() +
-                                    (itemColor.isBold() ? "§l" : "") +
-                                    (itemColor.isUnderline() ? "§n" : "") +
-                                    (itemColor.isItalic() ? "§o" : "") +
-                                    (itemColor.isObfuscated() ? "§k" : "") +
-                                    (itemColor.isStrikeThrough() ? "§m" : "") +
-                                    letter;
-                        }
-
-                        private char @NotNull [] updateFramesWhenRequired(char @NotNull [] currentFrames) {
-                            if (this.colorState < currentFrames.length) return currentFrames;
-
-                            this.colorState = 0;
-                            if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                                this.currentFrameIndex++;
-                                currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                            }
-                            return currentFrames;
-                        }
-
-                        private boolean cancelWhenListIsEmpty() {
-                            if (this.framesCopy.isEmpty()) {
-                                inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                                return true;
-                            }
-                            return false;
-                        }
-
-                        private void resetWhenFrameFinished(char @NotNull [] letters) {
-                            if (this.subStringIndex < letters.length) return;
-
-                            if (!loop)
-                                this.framesCopy.remove(0);
-                            this.colorState = 0;
-                            this.subStringIndex = 0;
-                            this.currentLore = "";
-
-                            if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                            this.currentFrameIndex = 0;
-                        }
-                    }, this.delay, this.period);
-            this.tasks.add(scheduledTask);
-        }
+        contents.displayFrame(slot, itemStack);
+        return itemStack;
     }
 
     /**
-     * It updates the lore of the item in the slot
+     * Maps a step to the index of its item. Lines that did not change in a step keep the text of an earlier step, so
+     * the first run through the loop can look different from the following ones. The first run is therefore stored
+     * separately, every later run uses the items of the second one.
      *
-     * @param contents The InventoryContents object that contains the current state of the inventory.
-     * @param lore     The new lore to set.
-     * @param index    The index of the lore to update.
+     * @param step The step of the animation.
+     * @return The index of the item or -1 if the items are not kept.
      */
-    private void updateLore(@NotNull InventoryContents contents,
-                            @NotNull String lore,
-                            @Nonnegative int index) {
-        ItemStack globalItemStack = this.itemStack;
-
-        ItemMeta itemMeta = globalItemStack.getItemMeta();
-        List<String> currentLore = itemMeta.getLore() == null ? new ArrayList<>() : itemMeta.getLore();
-        currentLore.set(index, lore);
-
-        itemMeta.setLore(currentLore);
-        globalItemStack.setItemMeta(itemMeta);
+    private int bakedIndex(@Nonnegative int step) {
+        if (this.bakedFrames == null) return -1;
+        if (this.loopStart == -1 || step < this.loopStart + this.loopLength) return step;
 
-        contents.update(slot, globalItemStack);
-        this.itemStack = globalItemStack;
+        return this.loopStart + this.loopLength + (step - this.loopStart) % this.loopLength;
     }
 
     /**
      * This function returns a list of tasks.
      *
-     * @return A list of BukkitTasks
+     * @return A list of animation tasks
      */
     @ApiStatus.Internal
-    public @NotNull List<ScheduledTask> getTasks() {
+    public @NotNull List<AnimationEngine.AnimationTask> getTasks() {
         return this.tasks;
     }
 
@@ -667,10 +475,72 @@ public class IntelligentItemLoreAnimator {
             animator.type = this.type;
             animator.loreData = this.loreData;
             animator.identifier = this.identifier;
-            animator.itemStack = this.intelligentItem.getItemStack();
+            if (this.preset != null) {
+                animator.loreLines = this.preset.loreLines;
+                animator.loreTables = this.preset.loreTables;
+                animator.bakedFrames = this.preset.bakedFrames;
+                animator.loopStart = this.preset.loopStart;
+                animator.loopLength = this.preset.loopLength;
+            } else {
+                compileFrames(animator);
+            }
             animator.contents = contents;
             animator.inventory = contents.pagination().inventory();
             return animator;
         }
+
+        /**
+         * Compiles a frame table for every lore line that has a frame assigned.
+         *
+         * @param animator The animator that receives the tables.
+         */
+        private void compileFrames(@NotNull IntelligentItemLoreAnimator animator) {
+            int[] loreLines = new int[this.loreData.size()];
+            FrameTable[] loreTables = new FrameTable[this.loreData.size()];
+
+            int i = 0;
+            for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
+                String text = ChatColor.stripColor(this.lore.get(entry.getKey()));
+                String frame = entry.getValue();
+                int cycleLength = this.type == IntelligentItemAnimatorType.FLASH ? frame.length() : text.length();
+
+                loreLines[i] = entry.getKey();
+                loreTables[i] = FrameTable.compile(this.type, text, Collections.singletonList(frame), this.frameColor, this.loop, cycleLength);
+                i++;
+            }
+
+            animator.loreLines = loreLines;
+            animator.loreTables = loreTables;
+
+            long length = 0;
+            long loopStart = 0;
+            long loopLength = 1;
+            for (FrameTable table : loreTables) {
+                if (table.isEmpty()) continue;
+
+                if (table.loopStart() == -1) {
+                    length = Math.max(length, table.length());
+                    continue;
+                }
+                int tableLoopLength = table.length() - table.loopStart();
+                loopStart = Math.max(loopStart, table.loopStart());
+                loopLength = loopLength / gcd(loopLength, tableLoopLength) * tableLoopLength;
+                if (loopLength > MAX_BAKED_FRAMES) break;
+            }
+
+            if (this.loop) {
+                animator.loopStart = (int) Math.min(loopStart, MAX_BAKED_FRAMES);
+                animator.loopLength = (int) Math.min(loopLength, MAX_BAKED_FRAMES);
+                length = loopStart + 2 * loopLength;
+            }
+
+            if (length <= MAX_BAKED_FRAMES)
+                animator.bakedFrames = new ItemStack[(int) length];
+        }
+
+        @Contract(pure = true)
+        private long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
     }
 }
@@ -31,6 +31,7 @@ import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
 import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
@@ -42,7 +43,6 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
@@ -62,12 +62,14 @@ public class IntelligentItemNameAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private ScheduledTask task;
+    private AnimationEngine.AnimationTask task;
     private boolean loop;
     private RyseInventory inventory;
     private InventoryContents contents;
     private IntelligentItem intelligentItem;
     private String displayName;
+    private FrameTable frameTable;
+    private ItemStack[] bakedFrames;
     private Object identifier;
 
     @Contract("_ -> new")
@@ -80,8 +82,8 @@ public class IntelligentItemNameAnimator {
      * This starts the animation for the item.
      */
     public void animate() {
-        this.inventory.addItemAnimator(this);
-        animateByType();
+        this.inventory.addItemAnimator(this.contents.getPlayer().getUniqueId(), this);
+        animateFrames();
     }
 
     /**
@@ -90,7 +92,7 @@ public class IntelligentItemNameAnimator {
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || this.task.getExecutionState() != ScheduledTask.ExecutionState.IDLE)
+        if (this.task == null || this.task.isCancelled())
             return false;
 
         this.task.cancel();
@@ -98,271 +100,30 @@ public class IntelligentItemNameAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Shows the next step of the precompiled frame table. A step without text change is skipped, once a non-looping
+     * animation has shown its last step it is removed.
      */
-    private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
-
-    /**
-     * It takes the frames, and loops through them, and then loops through the characters in the frame, and then loops
-     * through the characters in the display name, and then updates the display name with the current frame character
-     */
-    private void animateWithFlash() {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-                    final List<String> framesCopy = frames;
-                    final String fixedDisplayName = ChatColor.stripColor(displayName);
-
-                    int colorState = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
+    private void animateFrames() {
+        this.task = inventory.getManager().getAnimationEngine()
+                .schedule(new Runnable() {
+                    int frameIndex = frameTable.indexOf(0);
+                    ItemStack lastFrame;
 
                     @Override
                     public void run() {
-                        resetWhenFrameFinished();
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-
-                        char singleFrame = currentFrames[this.colorState];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        String currentName = itemColor.getColor()
-                                + (itemColor.isBold() ? "§l" : "")
-                                + (itemColor.isUnderline() ? "§n" : "")
-                                + (itemColor.isItalic() ? "§o" : "")
-                                + (itemColor.isObfuscated() ? "§k" : "")
-                                + (itemColor.isStrikeThrough() ? "§m" : "")
-                                + this.fixedDisplayName;
-
-                        this.colorState++;
-                        this.subStringIndex++;
-                        updateDisplayName(contents, currentName);
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                        if (this.colorState < currentFrames.length) return currentFrames;
-
-                        this.colorState = 0;
-
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                        }
-                        return currentFrames;
-                    }
-
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorState = 0;
-                        this.subStringIndex = 0;
-
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
+                        if (this.frameIndex == -1) {
+                            if (this.lastFrame != null)
+                                contents.update(slot, new ItemStack(this.lastFrame));
+                            inventory.removeItemAnimator(contents.getPlayer().getUniqueId(), IntelligentItemNameAnimator.this);
                             return;
-                        this.currentFrameIndex = 0;
-                    }
-                }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateByFullWord() {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-                    final List<String> framesCopy = frames;
-                    final List<String> previous = new ArrayList<>();
-                    final String currentNameFixed = ChatColor.stripColor(displayName);
-
-                    int colorState = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
-
-                    @Override
-                    public void run() {
-                        resetWhenFrameFinished();
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-
-                        char singleFrame = currentFrames[this.colorState];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        String letter = String.valueOf(this.letters[this.subStringIndex]);
-                        String rest = this.currentNameFixed.substring(this.subStringIndex + 1);
-                        boolean addColor = !letter.equals(" ");
-
-                        StringBuilder newString = new StringBuilder();
-                        if (this.subStringIndex != 0)
-                            this.previous.forEach(newString::append);
-
-                        newString.append(itemColor.getColor())
-                                .append(itemColor.isBold() ? "§l" : "")
-                                .append(itemColor.isUnderline() ? "§n" : "")
-                                .append(itemColor.isItalic() ? "§o" : "")
-                                .append(itemColor.isObfuscated() ? "§k" : "")
-                                .append(itemColor.isStrikeThrough() ? "§m" : "")
-                                .append(letter);
-
-                        String currentName = newString
-                                .append(ChatColor.WHITE).append(rest)
-                                .toString();
-
-                        this.previous.add(newString.toString());
-
-                        this.subStringIndex++;
-
-                        if (!addColor) return;
-
-                        this.colorState++;
-                        updateDisplayName(contents, currentName);
-                    }
-
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                        if (this.colorState < currentFrames.length) return currentFrames;
-
-                        this.colorState = 0;
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
                         }
-                        return currentFrames;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorState = 0;
-                        this.subStringIndex = 0;
-                        this.previous.clear();
 
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                            return;
+                        int index = this.frameIndex;
+                        String currentName = frameTable.frameAt(index);
+                        this.frameIndex = frameTable.indexOf(index + 1);
 
-                        this.currentFrameIndex = 0;
-                    }
-                }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateWordByWord() {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-                    final List<String> framesCopy = frames;
-
-                    int colorState = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
-                    String currentName = "";
-
-                    @Override
-                    public void run() {
-                        resetWhenFrameFinished();
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-
-                        String letter = String.valueOf(this.letters[this.subStringIndex]);
-                        boolean addColor = !letter.equals(" ");
-
-                        char singleFrame = currentFrames[this.colorState];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        this.currentName = this.currentName + itemColor.getColor()
-                                + (itemColor.isBold() ? "§l" : "")
-                                + (itemColor.isUnderline() ? "§n" : "")
-                                + (itemColor.isItalic() ? "§o" : "")
-                                + (itemColor.isObfuscated() ? "§k" : "")
-                                + (itemColor.isStrikeThrough() ? "§m" : "")
-                                + letter;
-
-                        this.subStringIndex++;
-
-                        if (!addColor) return;
-
-                        this.colorState++;
-                        updateDisplayName(contents, this.currentName);
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                        if (this.colorState < currentFrames.length) return currentFrames;
-
-                        this.colorState = 0;
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                        }
-                        return currentFrames;
-                    }
-
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorState = 0;
-                        this.subStringIndex = 0;
-                        this.currentName = "";
-
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                            return;
-
-                        this.currentFrameIndex = 0;
+                        if (currentName == null) return;
+                        this.lastFrame = updateDisplayName(contents, index, currentName);
                     }
                 }, this.delay, this.period);
     }
@@ -370,21 +131,31 @@ public class IntelligentItemNameAnimator {
     /**
      * "Update the display name of the item in the slot to the current name."
      * <p>
-     * The first parameter is the `InventoryContents` object, which is used to update the item in the slot. The second
-     * parameter is the current name of the item
+     * The item of a frame is only built the first time the frame is shown. After that the same item is used again, also
+     * by animators that were copied from this one. The frame is therefore only shown and never stored in the contents,
+     * the item in the slot keeps its original name until the animation is over.
      *
      * @param contents    The InventoryContents object that contains all the items in the inventory.
+     * @param index       The index of the frame in the frame table.
      * @param currentName The current name of the item.
+     * @return The item of the frame.
      */
-    private void updateDisplayName(@NotNull InventoryContents contents,
-                                   @NotNull String currentName) {
-        ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
-
-        ItemMeta itemMeta = itemStack.getItemMeta();
-        itemMeta.setDisplayName(currentName);
-        itemStack.setItemMeta(itemMeta);
+    private @NotNull ItemStack updateDisplayName(@NotNull InventoryContents contents,
+                                                 @Nonnegative int index,
+                                                 @NotNull String currentName) {
+        ItemStack itemStack = this.bakedFrames[index];
+
+        if (itemStack == null) {
+            itemStack = new ItemStack(intelligentItem.getItemStack());
+
+            ItemMeta itemMeta = itemStack.getItemMeta();
+            itemMeta.setDisplayName(currentName);
+            itemStack.setItemMeta(itemMeta);
+            this.bakedFrames[index] = itemStack;
+        }
 
-        contents.update(slot, itemStack);
+        contents.displayFrame(slot, itemStack);
+        return itemStack;
     }
 
     /**
@@ -393,7 +164,7 @@ public class IntelligentItemNameAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull ScheduledTask getTask() {
+    public @Nullable AnimationEngine.AnimationTask getTask() {
         return this.task;
     }
 
@@ -680,6 +451,14 @@ public class IntelligentItemNameAnimator {
             animator.slot = this.slot;
             animator.type = this.type;
             animator.identifier = this.identifier;
+            if (this.preset != null) {
+                animator.frameTable = this.preset.frameTable;
+                animator.bakedFrames = this.preset.bakedFrames;
+            } else {
+                String text = ChatColor.stripColor(this.displayName);
+                animator.frameTable = FrameTable.compile(this.type, text, this.frames, this.frameColor, this.loop, text.length());
+                animator.bakedFrames = new ItemStack[animator.frameTable.length()];
+            }
             animator.contents = contents;
             animator.inventory = contents.pagination().inventory();
             return animator;
@@ -29,6 +29,7 @@ import com.google.common.base.Preconditions;
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
@@ -39,12 +40,13 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Rysefoxx(Rysefoxx # 6772) |
@@ -58,7 +60,8 @@ public class IntelligentMaterialAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private ScheduledTask task;
+    private AnimationEngine.AnimationTask task;
+    private Map<Material, ItemStack> bakedFrames;
     private boolean loop;
     private RyseInventory inventory;
     private IntelligentItem intelligentItem;
@@ -75,7 +78,7 @@ public class IntelligentMaterialAnimator {
      * This starts the animation for the item.
      */
     public void animate() {
-        this.inventory.addMaterialAnimator(this);
+        this.inventory.addMaterialAnimator(this.contents.getPlayer().getUniqueId(), this);
         animateItem();
     }
 
@@ -85,7 +88,7 @@ public class IntelligentMaterialAnimator {
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || this.task.getExecutionState() != ScheduledTask.ExecutionState.IDLE)
+        if (this.task == null || this.task.isCancelled())
             return false;
 
         this.task.cancel();
@@ -98,10 +101,9 @@ public class IntelligentMaterialAnimator {
     private void animateItem() {
         int finalLength = getFrameLength();
 
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
+        this.task = inventory.getManager().getAnimationEngine()
+                .schedule(new Runnable() {
                     final List<String> framesCopy = frames;
-                    final ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
                     int materialState = 0;
                     int subStringIndex = 0;
                     int currentFrameIndex = 0;
@@ -123,8 +125,7 @@ public class IntelligentMaterialAnimator {
                         this.materialState++;
                         this.subStringIndex++;
 
-                        this.itemStack.setType(this.currentMaterial);
-                        contents.update(slot, this.itemStack);
+                        contents.displayFrame(slot, bakedFrame(this.currentMaterial));
                     }
 
                     private char @NotNull [] updateFramesWhenRequired(char @NotNull [] currentFrames) {
@@ -140,7 +141,9 @@ public class IntelligentMaterialAnimator {
 
                     private boolean cancelIfListIsEmpty() {
                         if (this.framesCopy.isEmpty()) {
-                            inventory.removeMaterialAnimator(IntelligentMaterialAnimator.this);
+                            if (this.currentMaterial != null)
+                                contents.update(slot, new ItemStack(bakedFrame(this.currentMaterial)));
+                            inventory.removeMaterialAnimator(contents.getPlayer().getUniqueId(), IntelligentMaterialAnimator.this);
                             return true;
                         }
                         return false;
@@ -163,13 +166,31 @@ public class IntelligentMaterialAnimator {
                 }, this.delay, this.period);
     }
 
+    /**
+     * Returns the item of the animated slot with the given material. The item is only built the first time the material
+     * is shown. After that the same item is used again, also by animators that were copied from this one, so it is only
+     * shown and never stored in the contents.
+     *
+     * @param material The material of the current frame.
+     * @return The item with the material.
+     */
+    private @NotNull ItemStack bakedFrame(@NotNull Material material) {
+        ItemStack itemStack = this.bakedFrames.get(material);
+        if (itemStack != null) return itemStack;
+
+        itemStack = new ItemStack(this.intelligentItem.getItemStack());
+        itemStack.setType(material);
+        this.bakedFrames.put(material, itemStack);
+        return itemStack;
+    }
+
     /**
      * This function returns the task that is currently running.
      *
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull ScheduledTask getTask() {
+    public @Nullable AnimationEngine.AnimationTask getTask() {
         return this.task;
     }
 
@@ -446,6 +467,7 @@ public class IntelligentMaterialAnimator {
             animator.period = this.period;
             animator.slot = this.slot;
             animator.identifier = this.identifier;
+            animator.bakedFrames = this.preset != null ? this.preset.bakedFrames : new EnumMap<>(Material.class);
             animator.contents = contents;
             animator.inventory = contents.pagination().inventory();
             return animator;
@@ -30,6 +30,7 @@ import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
 import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
@@ -41,13 +42,11 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * @author Rysefoxx(Rysefoxx # 6772)
@@ -63,9 +62,10 @@ public class IntelligentTitleAnimator {
     private IntelligentItemAnimatorType type = IntelligentItemAnimatorType.WORD_BY_WORD;
     private int period = 20;
     private int delay = 0;
-    private ScheduledTask task;
+    private AnimationEngine.AnimationTask task;
     private boolean loop;
     private String title;
+    private FrameTable titleTable;
     private RyseInventory inventory;
     private Object identifier;
 
@@ -80,8 +80,8 @@ public class IntelligentTitleAnimator {
      *               This starts the animation for the item.
      */
     public void animate(@NotNull Player player) {
-        this.inventory.addTitleAnimator(this);
-        animateByType(player);
+        this.inventory.addTitleAnimator(player.getUniqueId(), this);
+        animateFrames(player);
     }
 
     /**
@@ -91,7 +91,7 @@ public class IntelligentTitleAnimator {
      */
     public boolean stop() {
 
-        if (this.task == null || this.task.getExecutionState() != ScheduledTask.ExecutionState.IDLE)
+        if (this.task == null || this.task.isCancelled())
             return false;
 
         this.task.cancel();
@@ -99,302 +99,29 @@ public class IntelligentTitleAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
-     *
-     * @param player The player to animate the item for.
-     */
-    private void animateByType(@NotNull Player player) {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord(player);
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord(player);
-            return;
-        }
-        if (type == IntelligentItemAnimatorType.FLASH)
-            animateWithFlash(player);
-    }
-
-    /**
-     * It takes the frames and the title, and then it loops through the frames and the title, and then it updates the title
-     * with the current frame and the current letter
+     * Shows the next step of the precompiled frame table. A step without text change is skipped, once a non-looping
+     * animation has shown its last step it is removed. Frames that are equal to the title the player already sees or
+     * that exceed the title cooldown of the inventory are not sent, except for the last frame.
      *
      * @param player The player to animate the title for.
      */
-    private void animateWithFlash(@NotNull Player player) {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(title).toCharArray();
-                    final List<String> framesCopy = frames;
-                    final String fixedTitle = ChatColor.stripColor(title);
-
-                    int colorState = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
+    private void animateFrames(@NotNull Player player) {
+        this.task = inventory.getManager().getAnimationEngine()
+                .schedule(new Runnable() {
+                    int frameIndex = titleTable.indexOf(0);
 
                     @Override
                     public void run() {
-                        resetWhenFrameFinished();
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-
-                        char singleFrame = currentFrames[this.colorState];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        String currentTitle =
-                                itemColor.getColor()
-                                        + (itemColor.isBold() ? "§l" : "")
-                                        + (itemColor.isUnderline() ? "§n" : "")
-                                        + (itemColor.isItalic() ? "§o" : "")
-                                        + (itemColor.isObfuscated() ? "§k" : "")
-                                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                                        + fixedTitle;
-
-                        this.colorState++;
-                        this.subStringIndex++;
-                        inventory.updateTitle(player, currentTitle);
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                        if (this.colorState < currentFrames.length)
-                            return currentFrames;
-
-                        this.colorState = 0;
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                        }
-                        return currentFrames;
-                    }
-
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorState = 0;
-                        this.subStringIndex = 0;
-
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
+                        if (this.frameIndex == -1) {
+                            inventory.removeTitleAnimator(player.getUniqueId(), IntelligentTitleAnimator.this);
                             return;
-                        this.currentFrameIndex = 0;
-                    }
-                }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateByFullWord(@NotNull Player player) {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(title).toCharArray();
-                    final List<String> framesCopy = frames;
-                    final List<String> previous = new ArrayList<>();
-                    final String currentTitleFixed = Objects.requireNonNull(ChatColor.stripColor(title));
-
-                    int colorIndex = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
-                    String currentTitle = ChatColor.stripColor(title);
-
-                    @Override
-                    public void run() {
-                        resetWhenFrameFinished();
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-                        char singleFrame = currentFrames[this.colorIndex];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        String letter = String.valueOf(this.letters[this.subStringIndex]);
-                        String rest = this.currentTitleFixed.substring(this.subStringIndex + 1);
-                        boolean addColor = !letter.equals(" ");
-
-                        StringBuilder newString = buildTitleBasedOnPreviousTitle(itemColor, letter);
-
-                        this.currentTitle = newString
-                                .append(ChatColor.WHITE).append(rest)
-                                .toString();
-
-                        this.previous.add(newString.toString());
-
-                        this.subStringIndex++;
-
-                        if (!addColor) return;
-
-                        this.colorIndex++;
-                        inventory.updateTitle(player, this.currentTitle);
-                    }
-
-                    @NotNull
-                    private StringBuilder buildTitleBasedOnPreviousTitle(@NotNull IntelligentItemColor itemColor, @NotNull String letter) {
-                        StringBuilder newString = new StringBuilder();
-
-                        if (this.subStringIndex != 0)
-                            this.previous.forEach(newString::append);
-
-                        newString
-                                .append(itemColor.getColor())
-                                .append(itemColor.isBold() ? "§l" : "")
-                                .append(itemColor.isUnderline() ? "§n" : "")
-                                .append(itemColor.isItalic() ? "§o" : "")
-                                .append(itemColor.isObfuscated() ? "§k" : "")
-                                .append(itemColor.isStrikeThrough() ? "§m" : "")
-                                .append(letter);
-                        return newString;
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                        if (this.colorIndex < currentFrames.length)
-                            return currentFrames;
-
-                        this.colorIndex = 0;
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
                         }
-                        return currentFrames;
-                    }
 
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorIndex = 0;
-                        this.subStringIndex = 0;
-                        this.previous.clear();
-                        this.currentTitle = title;
+                        String currentTitle = titleTable.frameAt(this.frameIndex);
+                        this.frameIndex = titleTable.indexOf(this.frameIndex + 1);
 
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                            return;
-
-                        this.currentFrameIndex = 0;
-                    }
-                }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateWordByWord(@NotNull Player player) {
-        this.task = inventory.getManager().getMorePaperLib().scheduling().globalRegionalScheduler()
-                .runAtFixedRate(new Runnable() {
-                    final char[] letters = ChatColor.stripColor(title).toCharArray();
-                    final List<String> framesCopy = frames;
-
-                    int colorState = 0;
-                    int subStringIndex = 0;
-                    int currentFrameIndex = 0;
-                    String currentTitle = "";
-
-                    @Override
-                    public void run() {
-                        resetWhenFrameFinished();
-                        String letter = String.valueOf(this.letters[this.subStringIndex]);
-
-                        if (VersionUtils.isBelowAnd13()) {
-                            this.currentTitle = this.currentTitle + letter;
-
-                            this.subStringIndex++;
-                            inventory.updateTitle(player, this.currentTitle);
-                            return;
-                        }
-
-                        if (cancelIfListIsEmpty()) return;
-
-                        char[] currentFrames = updateFramesWhenRequired();
-                        boolean addColor = !letter.equals(" ");
-
-                        char singleFrame = currentFrames[this.colorState];
-                        IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                        appendLetterToTitle(letter, itemColor);
-
-                        this.subStringIndex++;
-
-                        if (!addColor) return;
-
-                        this.colorState++;
-                        inventory.updateTitle(player, this.currentTitle);
-                    }
-
-                    private void appendLetterToTitle(@NotNull String letter, @NotNull IntelligentItemColor itemColor) {
-                        this.currentTitle = this.currentTitle
-                                + (itemColor.isBold() ? "§l" : "")
-                                + (itemColor.isUnderline() ? "§n" : "")
-                                + (itemColor.isItalic() ? "§o" : "")
-                                + (itemColor.isObfuscated() ? "§k" : "")
-                                + (itemColor.isStrikeThrough() ? "§m" : "")
-                                + itemColor.getColor()
-                                + letter;
-                    }
-
-                    private char @NotNull [] updateFramesWhenRequired() {
-                        char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                        if (this.colorState < currentFrames.length)
-                            return currentFrames;
-
-                        this.colorState = 0;
-                        if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                            this.currentFrameIndex++;
-                            currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                        }
-                        return currentFrames;
-                    }
-
-                    private boolean cancelIfListIsEmpty() {
-                        if (this.framesCopy.isEmpty()) {
-                            inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                            return true;
-                        }
-                        return false;
-                    }
-
-                    private void resetWhenFrameFinished() {
-                        if (this.subStringIndex < this.letters.length) return;
-
-                        if (!loop)
-                            this.framesCopy.remove(0);
-                        this.colorState = 0;
-                        this.subStringIndex = 0;
-                        this.currentTitle = "";
-
-                        if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                            return;
-
-                        this.currentFrameIndex = 0;
+                        if (currentTitle == null) return;
+                        inventory.updateTitleFrame(player, currentTitle, this.frameIndex == -1);
                     }
                 }, this.delay, this.period);
     }
@@ -405,7 +132,7 @@ public class IntelligentTitleAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull ScheduledTask getTask() {
+    public @Nullable AnimationEngine.AnimationTask getTask() {
         return this.task;
     }
 
@@ -632,9 +359,27 @@ public class IntelligentTitleAnimator {
             animator.identifier = this.identifier;
             animator.inventory = contents.pagination().inventory();
             animator.title = contents.pagination().inventory().getTitle();
+            animator.titleTable = this.preset != null && this.preset.title.equals(animator.title)
+                    ? this.preset.titleTable
+                    : compileFrames(animator.title);
             return animator;
         }
 
+        /**
+         * Compiles the frame table of the title. Versions below 1.13 can not show colored titles, so the title is typed
+         * letter by letter instead.
+         *
+         * @param title The title of the inventory.
+         * @return The compiled table.
+         */
+        private @NotNull FrameTable compileFrames(@NotNull String title) {
+            String text = ChatColor.stripColor(title);
+            if (VersionUtils.isBelowAnd13())
+                return FrameTable.typing(text, this.loop);
+
+            return FrameTable.compile(this.type, text, this.frames, this.frameColor, this.loop, text.length());
+        }
+
         private void checkIfValid() {
             if (VersionUtils.isBelowAnd13()) {
                 if (!this.frameColor.isEmpty())
@@ -30,17 +30,17 @@ import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.AnimatorDirection;
 import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
-import io.github.rysefoxx.inventory.plugin.util.GlobalRunnable;
 import io.github.rysefoxx.inventory.plugin.util.SlotUtils;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.*;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -49,16 +49,17 @@ import java.util.*;
 public class SlideAnimation {
 
     private static Plugin plugin;
-    private final List<ScheduledTask> task = new ArrayList<>();
-    private final HashMap<Integer, Integer> timeHandler = new HashMap<>();
     private List<Integer> from = new ArrayList<>();
     private List<Integer> to = new ArrayList<>();
     private List<IntelligentItem> items = new ArrayList<>();
+    private List<int[]> paths = new ArrayList<>();
+    private List<IntelligentItem> pathItems = new ArrayList<>();
+    private IntelligentItem[] slideItems;
+    private SlidePlan plan;
     private int period = 20;
     private int delay = 20;
     private AnimatorDirection direction;
     private Object identifier;
-    private InventoryContents contents;
     private boolean blockClickEvent = false;
 
     @Contract("_ -> new")
@@ -74,271 +75,36 @@ public class SlideAnimation {
      * @throws IllegalArgumentException if invalid data was passed in the builder.
      */
     public void animate(@NotNull InventoryContents contents) throws IllegalArgumentException {
-        this.contents = contents;
         RyseInventory inventory = contents.pagination().inventory();
 
         for (int i = 0; i < this.from.size(); i++) {
             int fromSlot = this.from.get(i);
             int toSlot = this.to.get(i);
 
-            checkIfInvalid(fromSlot, toSlot, inventory);
+            checkIfInvalid(fromSlot, toSlot, inventory, contents);
         }
 
-        animateByTyp();
-    }
-
-    /**
-     * If the direction is horizontal, animate horizontally. If the direction is vertical, animate vertically. If the
-     * direction is diagonal, animate diagonally
-     */
-    private void animateByTyp() {
-        if (this.direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT || this.direction == AnimatorDirection.HORIZONTAL_RIGHT_LEFT) {
-            animateHorizontal();
-            return;
-        }
-        if (this.direction == AnimatorDirection.VERTICAL_UP_DOWN || this.direction == AnimatorDirection.VERTICAL_DOWN_UP) {
-            animateVertical();
-            return;
-        }
-        if (this.direction == AnimatorDirection.DIAGONAL_TOP_LEFT || this.direction == AnimatorDirection.DIAGONAL_BOTTOM_LEFT) {
-            animateDiagonalTopBottomLeft();
-            return;
-        }
-        if (this.direction == AnimatorDirection.DIAGONAL_TOP_RIGHT || this.direction == AnimatorDirection.DIAGONAL_BOTTOM_RIGHT) {
-            animateDiagonalTopBottomRight();
-        }
-    }
-
-    /**
-     * It animates the items from the top left to the bottom right
-     */
-    private void animateDiagonalTopBottomLeft() {
-        for (int i = 0; i < this.items.size(); i++) {
-            boolean moreDelay = i != 0 && Objects.equals(this.from.get(i), this.from.get(i - 1));
-
-            final int[] wait = {this.timeHandler.getOrDefault(this.from.get(i), 0) + 2};
-
-            if (moreDelay) {
-                this.timeHandler.put(this.from.get(i), wait[0]);
+        for (int[] path : this.paths) {
+            for (int slot : path) {
+                if (slot <= inventory.size(contents)) continue;
+                throw new IllegalArgumentException("The slot " + slot + " of the path must not be larger than the inventory size.");
             }
-
-            int finalI = i;
-
-            ScheduledTask scheduledTask = new GlobalRunnable(contents.pagination().inventory().getManager().getMorePaperLib().scheduling().globalRegionalScheduler()) {
-                        final int toIndex = to.get(finalI);
-                        final IntelligentItem item = items.get(finalI);
-                        final boolean isTopLeft = direction == AnimatorDirection.DIAGONAL_TOP_LEFT;
-                        int fromIndex = from.get(finalI);
-                        int previousIndex = fromIndex;
-
-                        @Override
-                        public void run() {
-                            if (moreDelay && wait[0] > 0) {
-                                wait[0]--;
-                                return;
-                            }
-
-                            if (this.isTopLeft) {
-                                if (this.fromIndex > this.toIndex) {
-                                    cancel();
-                                    return;
-                                }
-                            } else if (this.fromIndex < this.toIndex) {
-                                cancel();
-                                return;
-                            }
-
-                            if (this.fromIndex != from.get(finalI)) {
-                                contents.removeItemWithConsumer(this.previousIndex);
-                            }
-
-                            contents.set(this.fromIndex, this.item);
-                            contents.update(this.fromIndex, this.item);
-
-                            this.previousIndex = this.fromIndex;
-                            if (this.isTopLeft) {
-                                this.fromIndex += 10;
-                                return;
-                            }
-                            this.fromIndex -= 8;
-                        }
-                    }.runAtFixedRate(this.delay, this.period);
-            this.task.add(scheduledTask);
         }
-    }
 
-    /**
-     * It animates the items from the top right
-     */
-    private void animateDiagonalTopBottomRight() {
-        for (int i = 0; i < this.items.size(); i++) {
-            boolean moreDelay = i != 0 && Objects.equals(this.from.get(i), this.from.get(i - 1));
-
-            final int[] wait = {this.timeHandler.getOrDefault(this.from.get(i), 0) + 2};
+        if (this.plan.steps() == 0) return;
 
-            if (moreDelay) {
-                this.timeHandler.put(this.from.get(i), wait[0]);
-            }
-
-            int finalI = i;
-
-            ScheduledTask scheduledTask = new GlobalRunnable(contents.pagination().inventory().getManager().getMorePaperLib().scheduling().globalRegionalScheduler()) {
-                final int toIndex = to.get(finalI);
-                final IntelligentItem item = items.get(finalI);
-                final boolean isTopRight = direction == AnimatorDirection.DIAGONAL_TOP_RIGHT;
-                int fromIndex = from.get(finalI);
-                int previousIndex = fromIndex;
-
-                @Override
-                public void run() {
-                    if (moreDelay && wait[0] > 0) {
-                        wait[0]--;
-                        return;
-                    }
-
-                    if (this.isTopRight) {
-                        if (this.fromIndex > this.toIndex) {
-                            cancel();
-                            return;
-                        }
-                    } else if (this.fromIndex < this.toIndex) {
-                        cancel();
-                        return;
-                    }
-
-                    if (this.fromIndex != from.get(finalI))
-                        contents.removeItemWithConsumer(this.previousIndex);
-
-                    contents.set(this.fromIndex, this.item);
-                    contents.update(this.fromIndex, this.item);
-
-                    this.previousIndex = this.fromIndex;
-                    if (this.isTopRight) {
-                        this.fromIndex += 8;
-                        return;
-                    }
-                    this.fromIndex -= 10;
-                }
-            }.runAtFixedRate(this.delay, this.period);
-            this.task.add(scheduledTask);
-        }
-    }
-
-    /**
-     * It moves the items from one slot to another
-     */
-    private void animateHorizontal() {
-        for (int i = 0; i < this.items.size(); i++) {
-            boolean moreDelay = i != 0 && Objects.equals(this.from.get(i), this.from.get(i - 1));
-
-            final int[] wait = {this.timeHandler.getOrDefault(this.from.get(i), 0) + 2};
-
-            if (moreDelay) {
-                this.timeHandler.put(this.from.get(i), wait[0]);
-            }
-
-            int finalI = i;
-
-            ScheduledTask scheduledTask = new GlobalRunnable(contents.pagination().inventory().getManager().getMorePaperLib().scheduling().globalRegionalScheduler()) {
-                final int toIndex = to.get(finalI);
-                final IntelligentItem item = items.get(finalI);
-                final boolean leftToRight = direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT;
-                int fromIndex = from.get(finalI);
-                int previousIndex = fromIndex;
-
-                @Override
-                public void run() {
-                    if (moreDelay && wait[0] > 0) {
-                        wait[0]--;
-                        return;
-                    }
-
-                    if (this.leftToRight) {
-                        if (this.fromIndex > this.toIndex) {
-                            cancel();
-                            return;
-                        }
-                    } else if (this.fromIndex < this.toIndex) {
-                        cancel();
-                        return;
-                    }
-
-                    if (this.fromIndex != from.get(finalI))
-                        contents.removeItemWithConsumer(this.previousIndex);
-
-                    contents.set(this.fromIndex, this.item);
-                    contents.update(this.fromIndex, this.item);
-
-                    this.previousIndex = this.fromIndex;
-                    if (this.leftToRight) {
-                        this.fromIndex++;
-                        return;
-                    }
-                    this.fromIndex--;
-
-                }
-            }.runAtFixedRate(this.delay, this.period);
-            this.task.add(scheduledTask);
-        }
-    }
-
-    /**
-     * It animates the items in the inventory from one slot to another
-     */
-    private void animateVertical() {
-        for (int i = 0; i < this.items.size(); i++) {
-            boolean moreDelay = i != 0 && Objects.equals(this.from.get(i), this.from.get(i - 1));
+        AnimationEngine.AnimationTask animationTask = inventory.getManager().getAnimationEngine().schedule(new Consumer<AnimationEngine.AnimationTask>() {
+            int step = 0;
 
-            final int[] wait = {this.timeHandler.getOrDefault(this.from.get(i), 0) + 2};
+            @Override
+            public void accept(@NotNull AnimationEngine.AnimationTask animationTask) {
+                plan.apply(this.step, contents, slideItems);
 
-            if (moreDelay) {
-                this.timeHandler.put(this.from.get(i), wait[0]);
+                if (++this.step < plan.steps()) return;
+                animationTask.cancel();
             }
-
-            int finalI = i;
-
-            ScheduledTask scheduledTask = new GlobalRunnable(contents.pagination().inventory().getManager().getMorePaperLib().scheduling().globalRegionalScheduler()) {
-                final int toIndex = to.get(finalI);
-                final IntelligentItem item = items.get(finalI);
-                final boolean upToDown = direction == AnimatorDirection.VERTICAL_UP_DOWN;
-                int fromIndex = from.get(finalI);
-                int previousIndex = fromIndex;
-
-                @Override
-                public void run() {
-                    if (moreDelay && wait[0] > 0) {
-                        wait[0]--;
-                        return;
-                    }
-
-                    if (this.upToDown) {
-                        if (this.fromIndex > this.toIndex) {
-                            cancel();
-                            return;
-                        }
-                    } else if (this.fromIndex < this.toIndex) {
-                        cancel();
-                        return;
-                    }
-
-                    if (this.fromIndex != from.get(finalI)) {
-                        contents.removeItemWithConsumer(this.previousIndex);
-                    }
-
-                    contents.set(this.fromIndex, this.item);
-                    contents.update(this.fromIndex, this.item);
-
-                    this.previousIndex = this.fromIndex;
-                    if (this.upToDown) {
-                        this.fromIndex += 9;
-                        return;
-                    }
-                    this.fromIndex -= 9;
-
-                }
-            }.runAtFixedRate(this.delay, this.period);
-            this.task.add(scheduledTask);
-        }
+        }, this.delay, this.period);
+        inventory.addSlideTask(contents.getPlayer().getUniqueId(), animationTask);
     }
 
     /**
@@ -347,10 +113,12 @@ public class SlideAnimation {
      * @param from      The start slot of the animation.
      * @param to        The end slot of the animation.
      * @param inventory The inventory that the animation is being performed on.
+     * @param contents  The contents that are animated.
      */
     private void checkIfInvalid(@Nonnegative int from,
                                 @Nonnegative int to,
-                                @NotNull RyseInventory inventory) {
+                                @NotNull RyseInventory inventory,
+                                @NotNull InventoryContents contents) {
         if (this.direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT || this.direction == AnimatorDirection.HORIZONTAL_RIGHT_LEFT) {
             if ((from - 1) / 9 != (to - 1) / 9 && from / 9 != to / 9) {
                 throw new IllegalArgumentException("The start position " + from + " and the end position " + to + " are not on the same row.");
@@ -396,23 +164,6 @@ public class SlideAnimation {
         return this.blockClickEvent;
     }
 
-    /**
-     * It returns a list of tasks that are currently running
-     *
-     * @return A list of BukkitTasks
-     * @throws UnsupportedOperationException If list gets modified
-     */
-    @ApiStatus.Internal
-    @Unmodifiable
-    public @NotNull List<ScheduledTask> getTasks() throws UnsupportedOperationException {
-        return Collections.unmodifiableList(this.task);
-    }
-
-    @ApiStatus.Internal
-    public void clearTasks() {
-        this.task.clear();
-    }
-
     /**
      * Returns the identifier of this object, or null if it has none.
      *
@@ -427,6 +178,8 @@ public class SlideAnimation {
         private List<Integer> from = new ArrayList<>();
         private List<Integer> to = new ArrayList<>();
         private List<IntelligentItem> items = new ArrayList<>();
+        private List<int[]> paths = new ArrayList<>();
+        private List<IntelligentItem> pathItems = new ArrayList<>();
         private int period = 20;
         private int delay = 20;
 
@@ -724,6 +477,41 @@ public class SlideAnimation {
         }
 
 
+        /**
+         * Adds an item that moves along its own path, regardless of the direction. The item appears in the first slot
+         * and moves one slot further in every step until it reached the last slot.
+         *
+         * @param item  The item to add.
+         * @param slots The slots the item passes, in order.
+         * @return The Builder to perform further editing.
+         * @throws IllegalArgumentException if no slot was passed or if a slot is greater than 53
+         */
+        public @NotNull Builder path(@NotNull IntelligentItem item, int @NotNull ... slots) throws IllegalArgumentException {
+            Preconditions.checkArgument(slots.length > 0, "A path needs at least one slot.");
+
+            for (int slot : slots) {
+                if (slot < 0 || slot > 53)
+                    throw new IllegalArgumentException(StringConstants.INVALID_SLOT);
+            }
+
+            this.paths.add(slots.clone());
+            this.pathItems.add(item);
+            return this;
+        }
+
+        /**
+         * Adds an item that moves along its own path, regardless of the direction. The item appears in the first slot
+         * and moves one slot further in every step until it reached the last slot.
+         *
+         * @param item  The item to add.
+         * @param slots The slots the item passes, in order.
+         * @return The Builder to perform further editing.
+         * @throws IllegalArgumentException if no slot was passed or if a slot is greater than 53
+         */
+        public @NotNull Builder path(@NotNull IntelligentItem item, @NotNull List<Integer> slots) throws IllegalArgumentException {
+            return path(item, slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
         /**
          * Gives the Animation an identification
          *
@@ -748,22 +536,26 @@ public class SlideAnimation {
                 this.to = this.preset.to;
                 this.from = this.preset.from;
                 this.items = this.preset.items;
+                this.paths = this.preset.paths;
+                this.pathItems = this.preset.pathItems;
                 this.direction = this.preset.direction;
                 this.period = this.preset.period;
                 this.delay = this.preset.delay;
                 this.blockClickEvent = this.preset.blockClickEvent;
             }
 
-            if (this.to.isEmpty())
+            boolean directed = !this.from.isEmpty() || !this.to.isEmpty() || !this.items.isEmpty() || this.paths.isEmpty();
+
+            if (directed && this.to.isEmpty())
                 throw new IllegalArgumentException("No start positions were found. Please add start positions to make the animation work.");
 
-            if (this.from.isEmpty())
+            if (directed && this.from.isEmpty())
                 throw new IllegalArgumentException("No end positions were found. Please add end positions to make the animation work.");
 
-            if (this.items.isEmpty())
+            if (directed && this.items.isEmpty())
                 throw new IllegalArgumentException("No items were found. Please add items to make the animation work.");
 
-            if (this.direction == null)
+            if (directed && this.direction == null)
                 throw new NullPointerException("Direction is null. Please specify a direction for the animation.");
 
             Preconditions.checkArgument(this.from.size() == this.to.size(), "from and to must have the same size");
@@ -773,11 +565,30 @@ public class SlideAnimation {
             slideAnimation.to = this.to;
             slideAnimation.from = this.from;
             slideAnimation.items = this.items;
+            slideAnimation.paths = this.paths;
+            slideAnimation.pathItems = this.pathItems;
             slideAnimation.direction = this.direction;
             slideAnimation.period = this.period;
             slideAnimation.identifier = this.identifier;
             slideAnimation.delay = this.delay;
             slideAnimation.blockClickEvent = this.blockClickEvent;
+
+            if (this.preset != null) {
+                slideAnimation.slideItems = this.preset.slideItems;
+                slideAnimation.plan = this.preset.plan;
+                return slideAnimation;
+            }
+
+            List<int[]> paths = new ArrayList<>(this.from.size() + this.paths.size());
+            List<IntelligentItem> slideItems = new ArrayList<>(this.items);
+            for (int i = 0; i < this.from.size(); i++)
+                paths.add(SlidePlan.path(this.direction, this.from.get(i), this.to.get(i)));
+
+            paths.addAll(this.paths);
+            slideItems.addAll(this.pathItems);
+
+            slideAnimation.slideItems = slideItems.toArray(new IntelligentItem[0]);
+            slideAnimation.plan = SlidePlan.compile(paths);
             return slideAnimation;
         }
     }
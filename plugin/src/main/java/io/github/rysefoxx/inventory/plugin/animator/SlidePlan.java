@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.enums.AnimatorDirection;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The moves of a {@link SlideAnimation}, sorted by the step in which they happen.
+ * <br>
+ * Every item follows a path of slots. In each step an item is shown in the next slot of its path and its previous
+ * slot is cleared. Items that start in the same slot as the item before them wait two steps longer than that item,
+ * so they do not cover each other. The plan only depends on the builder, so copies of an animation share it.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+final class SlidePlan {
+
+    private final int[] stepStart;
+    private final int[] items;
+    private final int[] slots;
+    private final int[] previousSlots;
+    private final boolean[] last;
+
+    private SlidePlan(int @NotNull [] stepStart,
+                      int @NotNull [] items,
+                      int @NotNull [] slots,
+                      int @NotNull [] previousSlots,
+                      boolean @NotNull [] last) {
+        this.stepStart = stepStart;
+        this.items = items;
+        this.slots = slots;
+        this.previousSlots = previousSlots;
+        this.last = last;
+    }
+
+    /**
+     * Sorts the moves of all items by the step in which they happen. Within a step the moves keep the order of the
+     * items.
+     *
+     * @param paths The path of every item.
+     * @return The compiled plan.
+     */
+    static @NotNull SlidePlan compile(@NotNull List<int[]> paths) {
+        int[] waits = new int[paths.size()];
+        int steps = 0;
+        int moves = 0;
+
+        for (int i = 0; i < paths.size(); i++) {
+            int[] path = paths.get(i);
+            if (i != 0 && path.length != 0 && paths.get(i - 1).length != 0 && path[0] == paths.get(i - 1)[0])
+                waits[i] = waits[i - 1] + 2;
+
+            if (path.length == 0) continue;
+            steps = Math.max(steps, waits[i] + path.length);
+            moves += path.length;
+        }
+
+        int[] stepStart = new int[steps + 1];
+        for (int i = 0; i < paths.size(); i++) {
+            for (int j = 0; j < paths.get(i).length; j++)
+                stepStart[waits[i] + j + 1]++;
+        }
+        for (int step = 0; step < steps; step++)
+            stepStart[step + 1] += stepStart[step];
+
+        int[] cursor = Arrays.copyOf(stepStart, steps);
+        int[] items = new int[moves];
+        int[] slots = new int[moves];
+        int[] previousSlots = new int[moves];
+        boolean[] last = new boolean[moves];
+
+        for (int i = 0; i < paths.size(); i++) {
+            int[] path = paths.get(i);
+            for (int j = 0; j < path.length; j++) {
+                int move = cursor[waits[i] + j]++;
+                items[move] = i;
+                slots[move] = path[j];
+                previousSlots[move] = j == 0 ? -1 : path[j - 1];
+                last[move] = j == path.length - 1;
+            }
+        }
+        return new SlidePlan(stepStart, items, slots, previousSlots, last);
+    }
+
+    /**
+     * Creates the path from the start to the end slot in the given direction. If the end slot lies in the opposite
+     * direction, the path is empty.
+     *
+     * @param direction The direction of the animation.
+     * @param from      The start slot.
+     * @param to        The end slot.
+     * @return The slots of the path, including the start slot.
+     */
+    static int @NotNull [] path(@NotNull AnimatorDirection direction, @Nonnegative int from, @Nonnegative int to) {
+        int offset = offset(direction);
+        int length = offset > 0
+                ? (to < from ? 0 : (to - from) / offset + 1)
+                : (to > from ? 0 : (from - to) / -offset + 1);
+
+        int[] path = new int[length];
+        for (int i = 0; i < length; i++)
+            path[i] = from + i * offset;
+
+        return path;
+    }
+
+    /**
+     * @param direction The direction of the animation.
+     * @return How far an item moves in one step.
+     */
+    private static int offset(@NotNull AnimatorDirection direction) {
+        switch (direction) {
+            case DIAGONAL_TOP_LEFT:
+                return 10;
+            case DIAGONAL_TOP_RIGHT:
+                return 8;
+            case DIAGONAL_BOTTOM_LEFT:
+                return -8;
+            case DIAGONAL_BOTTOM_RIGHT:
+                return -10;
+            case VERTICAL_UP_DOWN:
+                return 9;
+            case VERTICAL_DOWN_UP:
+                return -9;
+            case HORIZONTAL_LEFT_RIGHT:
+                return 1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * @return How many steps the animation takes.
+     */
+    int steps() {
+        return this.stepStart.length - 1;
+    }
+
+    /**
+     * @param step The step.
+     * @return The slot every item that moves in this step is shown in, in the order of the moves.
+     */
+    @VisibleForTesting
+    int @NotNull [] slotsOf(@Nonnegative int step) {
+        return Arrays.copyOfRange(this.slots, this.stepStart[step], this.stepStart[step + 1]);
+    }
+
+    /**
+     * @param step The step.
+     * @return The item index of every move in this step, in the order of the moves.
+     */
+    @VisibleForTesting
+    int @NotNull [] itemsOf(@Nonnegative int step) {
+        return Arrays.copyOfRange(this.items, this.stepStart[step], this.stepStart[step + 1]);
+    }
+
+    /**
+     * Executes the moves of a step. The previous slot of an item is removed from the contents. While an item is moving
+     * it is only shown in the inventory, it is stored in the contents once it reached the end of its path.
+     *
+     * @param step     The step to execute.
+     * @param contents The contents of the player.
+     * @param items    The items of the animation.
+     */
+    void apply(@Nonnegative int step, @NotNull InventoryContents contents, IntelligentItem @NotNull [] items) {
+        for (int move = this.stepStart[step]; move < this.stepStart[step + 1]; move++) {
+            if (this.previousSlots[move] != -1)
+                contents.removeItemWithConsumer(this.previousSlots[move]);
+
+            IntelligentItem item = items[this.items[move]];
+            if (this.last[move])
+                contents.set(this.slots[move], item);
+
+            contents.display(this.slots[move], item.getItemStack());
+        }
+    }
+}
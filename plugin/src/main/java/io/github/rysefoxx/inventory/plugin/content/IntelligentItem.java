@@ -62,7 +62,6 @@ public class IntelligentItem {
     int delay;
 
     @Nullable Object id;
-    @Nullable ScheduledTask delayTask;
 
     //For serialization
     @Contract(pure = true)
@@ -359,8 +358,24 @@ public class IntelligentItem {
         return Objects.hash(itemStack, error, defaultConsumer, canClick, canSee, advanced, id);
     }
 
+    /**
+     * @return Always null.
+     * @deprecated The click delay is tracked per player and slot in the viewer session, so the item no longer holds a task.
+     */
+    @Deprecated
+    @Contract(value = "-> null", pure = true)
+    public @Nullable ScheduledTask getDelayTask() {
+        return null;
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param delayTask Ignored.
+     * @deprecated The click delay is tracked per player and slot in the viewer session, so the item no longer holds a task.
+     */
+    @Deprecated
     @ApiStatus.Internal
     public void setDelayTask(@Nullable ScheduledTask delayTask) {
-        this.delayTask = delayTask;
     }
 }
@@ -60,6 +60,11 @@ public class IntelligentItemColor {
     private boolean obfuscated;
     private boolean strikeThrough;
 
+    @Getter(AccessLevel.NONE)
+    private volatile net.md_5.bungee.api.ChatColor resolvedColor;
+    @Getter(AccessLevel.NONE)
+    private volatile String prefix;
+
     @Contract(pure = true)
     private IntelligentItemColor(@NotNull String hexColor,
                                  boolean bold,
@@ -128,12 +133,37 @@ public class IntelligentItemColor {
 
     /**
      * If the color is already set, return it. If it's not set, try to get it from the color wrapper. If the color wrapper
-     * is null, throw an exception
+     * is null, throw an exception. The color is resolved only once per instance.
      *
      * @return The color of the text.
      */
     @ApiStatus.Internal
     public @NotNull net.md_5.bungee.api.ChatColor getColor() {
+        net.md_5.bungee.api.ChatColor resolvedColor = this.resolvedColor;
+        if (resolvedColor == null)
+            this.resolvedColor = resolvedColor = resolveColor();
+
+        return resolvedColor;
+    }
+
+    /**
+     * @return The color followed by the formatting codes, e.g. §c§l for a bold red letter.
+     */
+    @ApiStatus.Internal
+    public @NotNull String getPrefix() {
+        String prefix = this.prefix;
+        if (prefix == null)
+            this.prefix = prefix = getColor()
+                    + (this.bold ? "§l" : "")
+                    + (this.underline ? "§n" : "")
+                    + (this.italic ? "§o" : "")
+                    + (this.obfuscated ? "§k" : "")
+                    + (this.strikeThrough ? "§m" : "");
+
+        return prefix;
+    }
+
+    private @NotNull net.md_5.bungee.api.ChatColor resolveColor() {
         if (this.bungeeColor != null) return this.bungeeColor;
         if (this.bukkitColor != null) return this.bukkitColor.asBungee();
 
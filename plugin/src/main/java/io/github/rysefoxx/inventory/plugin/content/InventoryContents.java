@@ -95,6 +95,13 @@ public class InventoryContents {
         this.pagination = new Pagination(inventory);
     }
 
+    /**
+     * @return The player who owns these contents.
+     */
+    public @NotNull Player getPlayer() {
+        return this.player;
+    }
+
     /**
      * @return A read only map of the properties.
      */
@@ -737,7 +744,7 @@ public class InventoryContents {
             if (inventoryOptional.isEmpty())
                 continue;
 
-            inventoryOptional.get().setItem(slot, null);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, null);
             success++;
         }
         return success == slots.length;
@@ -774,7 +781,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (inventoryOptional.isEmpty()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -798,7 +805,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (inventoryOptional.isEmpty()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -830,12 +837,12 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (inventoryOptional.isEmpty()) continue;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
                 continue;
             }
             if (inventoryOptional.isEmpty()) continue;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, itemStack);
             break;
         }
     }
@@ -858,7 +865,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (inventoryOptional.isEmpty()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
             optional.get().clearConsumer();
         }
     }
@@ -887,13 +894,13 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (inventoryOptional.isEmpty()) continue;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
                 optional.get().clearConsumer();
                 continue;
             }
             if (inventoryOptional.isEmpty()) continue;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, itemStack);
         }
     }
 
@@ -912,7 +919,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (inventoryOptional.isEmpty()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -939,13 +946,13 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (inventoryOptional.isEmpty()) break;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, null);
                 optional.get().clearConsumer();
                 break;
             }
             if (inventoryOptional.isEmpty()) break;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.queueSlotUpdate(this.player.getUniqueId(), i, itemStack);
             break;
         }
     }
@@ -1689,7 +1696,7 @@ public class InventoryContents {
             this.inventory.getProvider().init(this.player, contents, this.inventory.getSlideAnimator());
 
 
-        this.inventory.loadByPage(contents);
+        this.inventory.loadByPage(this.player, contents);
         /*System.out.println(this.pagination.page());
         System.out.println(this.pagination.lastPage());
         System.out.println(contents.pagination.page());
@@ -2663,7 +2670,7 @@ public class InventoryContents {
         if (inventoryOptional.isEmpty())
             return Optional.of(itemToAdd);
 
-        inventoryOptional.get().setItem(slot, itemToAdd.getItemStack());
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, itemToAdd.getItemStack());
         return Optional.of(itemToAdd);
     }
 
@@ -2698,7 +2705,7 @@ public class InventoryContents {
         if (inventoryOptional.isEmpty())
             return Optional.of(itemToSet);
 
-        inventoryOptional.get().setItem(slot, itemToSet.getItemStack());
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, itemToSet.getItemStack());
         return Optional.of(itemToSet);
     }
 
@@ -2814,8 +2821,9 @@ public class InventoryContents {
                                     @Nonnegative int column,
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2823,7 +2831,7 @@ public class InventoryContents {
                 if (contents.updateLore(SlotUtils.toSlot(row, column), index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -2873,8 +2881,9 @@ public class InventoryContents {
      */
     public boolean updateLoreForAll(@Nonnegative int slot,
                                     @NotNull List<String> lore) throws IllegalArgumentException, IllegalStateException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2882,7 +2891,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, lore)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -2944,8 +2953,9 @@ public class InventoryContents {
     public boolean updateLoreForAll(@Nonnegative int slot,
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2953,7 +2963,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -2998,8 +3008,9 @@ public class InventoryContents {
     public boolean updateLoreForAll(@NotNull List<Integer> slots,
                                     @NotNull List<Integer> indexes,
                                     @NotNull List<String> lines) throws IllegalArgumentException, IllegalStateException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3007,7 +3018,7 @@ public class InventoryContents {
                 if (contents.updateLore(slots, indexes, lines)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3059,8 +3070,7 @@ public class InventoryContents {
 
         set(slot, newItem);
 
-        Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
-        inventoryOptional.ifPresent(savedInventory -> savedInventory.setItem(slot, newItem.getItemStack()));
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, newItem.getItemStack());
         return true;
     }
 
@@ -3074,8 +3084,9 @@ public class InventoryContents {
      */
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3083,7 +3094,7 @@ public class InventoryContents {
                 if (contents.update(slot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3129,8 +3140,9 @@ public class InventoryContents {
      */
     public boolean updateDisplayNameForAll(@Nonnegative int slot,
                                            @NotNull String displayName) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3138,7 +3150,7 @@ public class InventoryContents {
                 if (contents.updateDisplayName(slot, displayName)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3257,8 +3269,7 @@ public class InventoryContents {
 
         set(slot, newItem);
 
-        Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
-        inventoryOptional.ifPresent(savedInventory -> savedInventory.setItem(slot, newItem.getItemStack()));
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, newItem.getItemStack());
         return true;
     }
 
@@ -3272,8 +3283,9 @@ public class InventoryContents {
      */
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3281,7 +3293,7 @@ public class InventoryContents {
                 if (contents.update(slot, intelligentItem)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3311,8 +3323,9 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int row,
                                 @Nonnegative int column,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3321,7 +3334,7 @@ public class InventoryContents {
                     updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3352,8 +3365,9 @@ public class InventoryContents {
      */
     public boolean updateForAll(@NotNull List<Integer> slots,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3361,7 +3375,7 @@ public class InventoryContents {
                 if (contents.update(slots, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3391,8 +3405,9 @@ public class InventoryContents {
     public boolean updateViaCoordinationForAll(@Nonnegative int row,
                                                @Nonnegative int column,
                                                @NotNull ItemStack itemStack) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3400,7 +3415,7 @@ public class InventoryContents {
                 if (contents.update(SlotUtils.toSlot(row, column), itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3428,8 +3443,9 @@ public class InventoryContents {
      */
     public boolean updateViaCoordinationForAll(@NotNull Collection<ImmutablePair<Integer, Integer>> pairs,
                                                @NotNull ItemStack itemStack) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3437,7 +3453,7 @@ public class InventoryContents {
                 if (contents.updateViaCoordination(pairs, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3468,11 +3484,8 @@ public class InventoryContents {
 
         set(newSlot, newItem);
 
-        Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
-        inventoryOptional.ifPresent(savedInventory -> {
-            savedInventory.setItem(itemSlot, null);
-            savedInventory.setItem(newSlot, newItem.getItemStack());
-        });
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), itemSlot, null);
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), newSlot, newItem.getItemStack());
         return true;
     }
 
@@ -3488,8 +3501,9 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int itemSlot,
                                 @Nonnegative int newSlot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3497,7 +3511,7 @@ public class InventoryContents {
                 if (contents.update(itemSlot, newSlot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3523,8 +3537,9 @@ public class InventoryContents {
      */
     public boolean updatePositionForAll(@Nonnegative int itemSlot,
                                         @Nonnegative int newSlot) throws IllegalArgumentException {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3532,7 +3547,7 @@ public class InventoryContents {
                 if (contents.updatePosition(itemSlot, newSlot)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3571,6 +3586,34 @@ public class InventoryContents {
         return this.contentPattern;
     }
 
+    /**
+     * Shows the ItemStack in the slot without storing it in the contents. During a provider update or an animation
+     * frame the slot is written together with all other updates of the player at the end of the tick.
+     *
+     * @param slot      The slot
+     * @param itemStack The ItemStack to show or null to clear the slot.
+     */
+    @ApiStatus.Internal
+    public void display(@Nonnegative int slot, @Nullable ItemStack itemStack) {
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, itemStack);
+    }
+
+    /**
+     * Shows a frame of an item animation in the slot. The item stored in the slot is not changed, so the same frame can
+     * be shown to every viewer and in every loop. Nothing is shown if the slot has no item.
+     *
+     * @param slot  The slot
+     * @param frame The frame to show. It is only read.
+     * @return true if the frame was shown.
+     */
+    @ApiStatus.Internal
+    public boolean displayFrame(@Nonnegative int slot, @NotNull ItemStack frame) {
+        if (get(slot).isEmpty()) return false;
+
+        display(slot, frame);
+        return true;
+    }
+
     /**
      * If the data is empty, return. Otherwise, for each data, set it to the transferTo inventory.
      *
@@ -3614,14 +3657,14 @@ public class InventoryContents {
      * @param page The page to clear
      */
     private void clear(@Nonnegative int page) {
-        int size = this.pagination.getInventoryData().size();
-        int[] slots = new int[size];
-        for (int i = 0; i < size; i++) {
-            IntelligentItemData itemData = this.pagination.getInventoryData().get(i);
+        List<IntelligentItemData> data = this.pagination.getInventoryData();
+        int[] slots = new int[data.size()];
+        int i = 0;
+        for (IntelligentItemData itemData : data) {
+            int index = i++;
             if (itemData.getPage() != page) continue;
 
-            int slot = itemData.getModifiedSlot();
-            slots[i] = slot;
+            slots[index] = itemData.getModifiedSlot();
         }
         for (int slot : slots) {
             get(slot).ifPresent(item -> removeItemWithConsumer(slot));
@@ -3662,7 +3705,7 @@ public class InventoryContents {
         if (inventoryOptional.isEmpty())
             return false;
 
-        inventoryOptional.get().setItem(slot, intelligentItem.getItemStack());
+        this.inventory.queueSlotUpdate(this.player.getUniqueId(), slot, intelligentItem.getItemStack());
         return true;
     }
 }
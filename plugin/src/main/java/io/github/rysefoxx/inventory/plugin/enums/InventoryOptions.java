@@ -56,6 +56,11 @@ public enum InventoryOptions {
      * The player does not get hungry as long as the inventory is open.
      */
     NO_HUNGER,
+    /**
+     * Click consumers of items without delay and the InventoryClickEvent handler of the inventory are called directly
+     * in the click event instead of on the next tick. Only use this if the consumers do not open or close inventories.
+     */
+    INSTANT_CLICKS,
     ;
 
     /**
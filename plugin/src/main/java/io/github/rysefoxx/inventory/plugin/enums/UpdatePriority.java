@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package io.github.rysefoxx.inventory.plugin.enums;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public enum UpdatePriority {
+
+    /**
+     * Updated last. Deferred first when the update budget of a tick is used up.
+     */
+    LOW,
+    /**
+     * The default priority of every inventory.
+     */
+    NORMAL,
+    /**
+     * Updated before all other inventories in every tick.
+     */
+    HIGH;
+
+    /**
+     * Return the first UpdatePriority whose name matches the given name, or null if no such UpdatePriority exists.
+     *
+     * @param name The name of the enum constant, exactly as declared in its enum declaration.
+     * @return A UpdatePriority enum value.
+     */
+    public static @Nullable UpdatePriority fromName(@NotNull String name) {
+        return Arrays.stream(values())
+                .filter(priority -> priority.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
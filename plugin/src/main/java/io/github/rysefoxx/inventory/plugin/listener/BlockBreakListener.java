@@ -34,9 +34,9 @@ public record BlockBreakListener(InventoryManager manager) implements Listener {
 
         if (!onBlock.isEmpty()) {
             onBlock.forEach(affectedPlayer -> {
-                if (!manager.hasInventory(affectedPlayer.getUniqueId())) return;
-                RyseInventory mainInventory = manager.getInventories().get(affectedPlayer.getUniqueId());
-                if (!mainInventory.getOptions().contains(InventoryOptions.NO_BLOCK_BREAK)) return;
+                RyseInventory mainInventory = manager.getInventory(affectedPlayer.getUniqueId()).orElse(null);
+                if (mainInventory == null) return;
+                if (!mainInventory.getPolicy().hasOption(InventoryOptions.NO_BLOCK_BREAK)) return;
                 event.setCancelled(true);
             });
         }
@@ -14,9 +14,9 @@ public record EntityDamageListener(InventoryManager manager) implements Listener
     @EventHandler(ignoreCancelled = true)
     public void onEntityDamage(@NotNull EntityDamageEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
-        if (!manager.hasInventory(player.getUniqueId())) return;
-        RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
-        if (!mainInventory.getOptions().contains(InventoryOptions.NO_DAMAGE)) return;
+        RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
+        if (!mainInventory.getPolicy().hasOption(InventoryOptions.NO_DAMAGE)) return;
         event.setCancelled(true);
     }
 }
@@ -0,0 +1,91 @@
+package io.github.rysefoxx.inventory.plugin.listener;
+
+import io.github.rysefoxx.inventory.plugin.enums.InventoryOptions;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryPolicy;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers the listeners that are only needed by some inventories, the first time such an inventory is opened.
+ * <br>
+ * Custom {@link io.github.rysefoxx.inventory.plugin.other.EventCreator}s for player events are all routed through
+ * this dispatcher: it is registered once per event class, resolves the inventory of the player and calls the handlers
+ * of the inventory. The listeners for {@link InventoryOptions} are registered as soon as an inventory uses the option,
+ * so servers without such inventories do not pay for events like {@link org.bukkit.event.entity.EntityDamageEvent}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EventDispatcher implements Listener, EventExecutor {
+
+    InventoryManager manager;
+    Plugin plugin;
+    Set<Class<?>> registeredEvents = ConcurrentHashMap.newKeySet();
+    Set<InventoryOptions> registeredOptions = ConcurrentHashMap.newKeySet();
+
+    public EventDispatcher(@NotNull InventoryManager manager, @NotNull Plugin plugin) {
+        this.manager = manager;
+        this.plugin = plugin;
+    }
+
+    /**
+     * Registers everything the inventory needs that is not registered yet.
+     *
+     * @param inventory The inventory that is being opened.
+     */
+    public void register(@NotNull RyseInventory inventory) {
+        InventoryPolicy policy = inventory.getPolicy();
+        for (InventoryOptions option : InventoryOptions.values()) {
+            if (!policy.hasOption(option) || !this.registeredOptions.add(option)) continue;
+
+            Listener listener = createListener(option);
+            if (listener != null)
+                Bukkit.getPluginManager().registerEvents(listener, this.plugin);
+        }
+
+        for (Class<?> type : inventory.getEventHandlers().types()) {
+            if (!PlayerEvent.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) continue;
+            if (!this.registeredEvents.add(type)) continue;
+
+            Bukkit.getPluginManager().registerEvent(type.asSubclass(Event.class), this, EventPriority.LOWEST, this, this.plugin);
+        }
+    }
+
+    @Override
+    public void execute(@NotNull Listener listener, @NotNull Event event) {
+        if (!(event instanceof PlayerEvent playerEvent)) return;
+        RyseInventory mainInventory = this.manager.getInventory(playerEvent.getPlayer().getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
+
+        mainInventory.getEventHandlers().dispatch(event);
+    }
+
+    private @Nullable Listener createListener(@NotNull InventoryOptions option) {
+        return switch (option) {
+            case NO_DAMAGE -> new EntityDamageListener(this.manager);
+            case NO_ITEM_PICKUP -> new PlayerPickupItemListener(this.manager);
+            case NO_POTION_EFFECT -> new PotionSplashListener(this.manager);
+            case NO_BLOCK_BREAK -> new BlockBreakListener(this.manager);
+            case NO_HUNGER -> new FoodLevelChangeListener(this.manager);
+            case INSTANT_CLICKS -> null;
+        };
+    }
+}
@@ -14,9 +14,9 @@ public record FoodLevelChangeListener(InventoryManager manager) implements Liste
     @EventHandler(ignoreCancelled = true)
     public void onFoodLevelChange(@NotNull FoodLevelChangeEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
-        if (!manager.hasInventory(player.getUniqueId())) return;
-        RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
-        if (!mainInventory.getOptions().contains(InventoryOptions.NO_HUNGER)) return;
+        RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
+        if (!mainInventory.getPolicy().hasOption(InventoryOptions.NO_HUNGER)) return;
         event.setCancelled(true);
     }
 }
@@ -5,10 +5,11 @@ import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.Action;
 import io.github.rysefoxx.inventory.plugin.enums.CloseReason;
-import io.github.rysefoxx.inventory.plugin.enums.DisabledInventoryClick;
 import io.github.rysefoxx.inventory.plugin.enums.InventoryOpenerType;
-import io.github.rysefoxx.inventory.plugin.other.EventCreator;
+import io.github.rysefoxx.inventory.plugin.enums.InventoryOptions;
+import io.github.rysefoxx.inventory.plugin.pagination.EventHandlerTable;
 import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryPolicy;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.InventoryUtil;
 import org.bukkit.Material;
@@ -25,9 +26,7 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -36,49 +35,59 @@ public record InventoryClickListener(InventoryManager manager) implements Listen
 
 
     @EventHandler(priority = EventPriority.LOWEST)
-    @SuppressWarnings("unchecked")
     public void onInventoryClick(@NotNull InventoryClickEvent event) {
         HumanEntity whoClicked = InventoryUtil.getPlayer(event);
         if (!(whoClicked instanceof Player player)) return;
-        if (!manager.hasInventory(player.getUniqueId())) return;
-        RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
+        RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
+
+        if (!manager.tryClick(player.getUniqueId(), mainInventory)) {
+            event.setCancelled(true);
+            return;
+        }
+
+        InventoryPolicy policy = mainInventory.getPolicy();
 
         if (event.getClickedInventory() == null) {
-            if (mainInventory.getCloseReasons().contains(CloseReason.CLICK_OUTSIDE))
+            if (policy.closesOn(CloseReason.CLICK_OUTSIDE))
                 player.closeInventory();
             return;
         }
 
-        EventCreator<InventoryClickEvent> customEvent = (EventCreator<InventoryClickEvent>) mainInventory.getEvent(InventoryClickEvent.class);
-        if (customEvent != null) {
-            manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> customEvent.accept(event), 2L);
+        EventHandlerTable eventHandlers = mainInventory.getEventHandlers();
+        boolean instantClicks = policy.hasOption(InventoryOptions.INSTANT_CLICKS);
+        if (eventHandlers.has(InventoryClickEvent.class)) {
+            // Without INSTANT_CLICKS the handler runs after the click was applied, so it sees the final state of the inventory.
+            if (instantClicks) {
+                eventHandlers.dispatch(event);
+            } else {
+                manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> eventHandlers.dispatch(event), 2L);
+            }
         }
 
-        List<DisabledInventoryClick> list = mainInventory.getIgnoreClickEvent();
-
         InventoryAction action = event.getAction();
         Inventory clickedInventory = event.getClickedInventory();
         Inventory bottomInventory = InventoryUtil.getPlayerBottomInventory(player);
         Inventory topInventory = InventoryUtil.getPlayerTopInventory(player);
         int slot = event.getSlot();
         ClickType clickType = event.getClick();
-        InventoryContents contents = manager.getContent().get(player.getUniqueId());
+        InventoryContents contents = manager.getContents(player.getUniqueId()).orElse(null);
 
         ItemStack itemStack = event.getCurrentItem();
         if (itemStack == null) return;
         if (clickedInventory == bottomInventory) {
-            if (!list.contains(DisabledInventoryClick.BOTTOM) && !list.contains(DisabledInventoryClick.BOTH)) {
+            if (!policy.ignoresBottomClicks()) {
                 event.setCancelled(true);
                 return;
             }
 
-            if (mainInventory.getCloseReasons().contains(CloseReason.CLICK_BOTTOM_INVENTORY)) {
+            if (policy.closesOn(CloseReason.CLICK_BOTTOM_INVENTORY)) {
                 mainInventory.close(player);
                 return;
             }
 
             if (action == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
-                if (!mainInventory.getEnabledActions().contains(Action.MOVE_TO_OTHER_INVENTORY)) {
+                if (!policy.isEnabled(Action.MOVE_TO_OTHER_INVENTORY)) {
                     event.setCancelled(true);
                     return;
                 }
@@ -114,14 +123,14 @@ public record InventoryClickListener(InventoryManager manager) implements Listen
 
             SlideAnimation animation = mainInventory.getSlideAnimator();
 
-            if (animation != null && mainInventory.activeSlideAnimatorTasks() > 0 && animation.isBlockClickEvent()) {
+            if (animation != null && mainInventory.activeSlideAnimatorTasks(player.getUniqueId()) > 0 && animation.isBlockClickEvent()) {
                 event.setCancelled(true);
                 return;
             }
 
-            if (!list.contains(DisabledInventoryClick.TOP) && !list.contains(DisabledInventoryClick.BOTH)) {
+            if (!policy.ignoresTopClicks()) {
                 if (event.getClick() == ClickType.DOUBLE_CLICK
-                        && !mainInventory.getEnabledActions().contains(Action.DOUBLE_CLICK)) {
+                        && !policy.isEnabled(Action.DOUBLE_CLICK)) {
                     event.setCancelled(true);
                     return;
                 }
@@ -145,7 +154,7 @@ public record InventoryClickListener(InventoryManager manager) implements Listen
 
             Optional<IntelligentItem> optional = contents.get(slot);
 
-            if (optional.isEmpty() && mainInventory.getCloseReasons().contains(CloseReason.CLICK_EMPTY_SLOT)) {
+            if (optional.isEmpty() && policy.closesOn(CloseReason.CLICK_EMPTY_SLOT)) {
                 event.setCancelled(true);
                 mainInventory.close(player);
                 return;
@@ -157,34 +166,49 @@ public record InventoryClickListener(InventoryManager manager) implements Listen
                     return;
                 }
 
-                if (list.contains(DisabledInventoryClick.TOP) || list.contains(DisabledInventoryClick.BOTH)) {
+                if (policy.ignoresTopClicks()) {
                     event.setCancelled(false);
                     return;
                 }
 
-                if (item.getDelayTask() != null && item.getDelayTask().getExecutionState() == ScheduledTask.ExecutionState.RUNNING)
-                    return;
-
                 int delay = item.getDelay();
-                if (manager.getMorePaperLib().scheduling().isUsingFolia() && delay <= 0) {
-                    delay = 1;
-                }
-                item.setDelayTask(manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> {
-                    if (!item.isCanClick()) {
-                        item.getError().cantClick(player, item);
+                if (delay <= 0) {
+                    if (instantClicks) {
+                        acceptClick(player, item, event);
                         return;
                     }
-                    item.setDelayTask(null);
-                    item.getDefaultConsumer().accept(event);
-                    player.updateInventory();
-                }, delay));
+                    if (manager.getMorePaperLib().scheduling().isUsingFolia())
+                        delay = 1;
+                }
+
+                if (!manager.tryClickSlot(player.getUniqueId(), slot, delay))
+                    return;
+
+                manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> acceptClick(player, item, event), delay);
             });
         }
     }
 
+    /**
+     * Calls the consumer of the clicked item. With {@link InventoryOptions#INSTANT_CLICKS}, items without delay are
+     * handled directly in the event, which already runs on the thread that owns the player.
+     *
+     * @param player The player who clicked.
+     * @param item   The clicked item.
+     * @param event  The click event.
+     */
+    private void acceptClick(@NotNull Player player, @NotNull IntelligentItem item, @NotNull InventoryClickEvent event) {
+        if (!item.isCanClick()) {
+            item.getError().cantClick(player, item);
+            return;
+        }
+        item.getDefaultConsumer().accept(event);
+        player.updateInventory();
+    }
+
     @Contract(pure = true)
     private boolean hasContents(@NotNull UUID uuid) {
-        return manager.getContent().containsKey(uuid);
+        return manager.getContents(uuid).isPresent();
     }
 
 
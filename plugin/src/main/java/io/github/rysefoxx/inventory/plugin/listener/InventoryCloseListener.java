@@ -1,6 +1,5 @@
 package io.github.rysefoxx.inventory.plugin.listener;
 
-import io.github.rysefoxx.inventory.plugin.other.EventCreator;
 import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import org.bukkit.entity.Player;
@@ -13,19 +12,16 @@ import org.jetbrains.annotations.NotNull;
 public record InventoryCloseListener(InventoryManager manager) implements Listener {
 
     @EventHandler(priority = EventPriority.LOWEST)
-    @SuppressWarnings("unchecked")
     public void onInventoryClose(@NotNull InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player player)) return;
-        if (!manager.hasInventory(player.getUniqueId())) return;
-        RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
+        RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
         if (!mainInventory.isCloseAble()) {
             manager.getMorePaperLib().scheduling().globalRegionalScheduler().run(() -> mainInventory.open(player));
             return;
         }
 
-        EventCreator<InventoryCloseEvent> customEvent = (EventCreator<InventoryCloseEvent>) mainInventory.getEvent(InventoryCloseEvent.class);
-        if (customEvent != null) {
-            customEvent.accept(event);
+        if (mainInventory.getEventHandlers().dispatch(event)) {
             mainInventory.clearData(player);
             return;
         }
@@ -14,9 +14,9 @@ public record PlayerPickupItemListener(InventoryManager manager) implements List
     @EventHandler(ignoreCancelled = true)
     public void onPlayerPickupItem(@NotNull PlayerPickupItemEvent event) {
         Player player = event.getPlayer();
-        if (!manager.hasInventory(player.getUniqueId())) return;
-        RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
-        if (!mainInventory.getOptions().contains(InventoryOptions.NO_ITEM_PICKUP)) return;
+        RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+        if (mainInventory == null) return;
+        if (!mainInventory.getPolicy().hasOption(InventoryOptions.NO_ITEM_PICKUP)) return;
         event.setCancelled(true);
     }
 }
@@ -17,8 +17,8 @@ public record PluginDisableListener(InventoryManager manager, Plugin plugin) imp
         Plugin disabledPlugin = event.getPlugin();
         if (disabledPlugin != plugin) return;
         Bukkit.getOnlinePlayers().forEach(player -> {
-            if (!manager.hasInventory(player.getUniqueId())) return;
-            RyseInventory inventory = manager.getInventories().get(player.getUniqueId());
+            RyseInventory inventory = manager.getInventory(player.getUniqueId()).orElse(null);
+            if (inventory == null) return;
             inventory.close(player);
         });
 
@@ -16,9 +16,9 @@ public record PotionSplashListener(InventoryManager manager) implements Listener
     public void onPotionSplash(@NotNull PotionSplashEvent event) {
         for (LivingEntity entity : event.getAffectedEntities()) {
             if (!(entity instanceof Player player)) continue;
-            if (!manager.hasInventory(player.getUniqueId())) continue;
-            RyseInventory mainInventory = manager.getInventories().get(player.getUniqueId());
-            if (!mainInventory.getOptions().contains(InventoryOptions.NO_POTION_EFFECT)) continue;
+            RyseInventory mainInventory = manager.getInventory(player.getUniqueId()).orElse(null);
+            if (mainInventory == null) continue;
+            if (!mainInventory.getPolicy().hasOption(InventoryOptions.NO_POTION_EFFECT)) continue;
             event.setCancelled(true);
         }
     }
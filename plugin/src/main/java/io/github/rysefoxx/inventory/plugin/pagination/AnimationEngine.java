@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Runs all animations of an {@link InventoryManager} from a single repeating task.
+ * <br>
+ * Every animation only keeps a countdown to its next frame, which the engine lowers once per tick. Cancelled and
+ * finished animations are dropped while the engine walks over the list, so cancelling an animation is only a flag.
+ * The item updates of all frames of a tick are written into the inventories at the end of the tick, once per slot.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AnimationEngine extends TickLoop<AnimationEngine.AnimationTask> {
+
+    List<AnimationTask> animations = new ArrayList<>();
+
+    protected AnimationEngine(@NotNull InventoryManager manager) {
+        super(manager, "An error occurred while animating an inventory.");
+    }
+
+    /**
+     * Schedules a repeating animation.
+     *
+     * @param action The frame to run. It receives its own task, so it can cancel itself once the animation is over.
+     * @param delay  The delay in ticks before the first frame.
+     * @param period The period in ticks between two frames.
+     * @return The task which can be used to cancel the animation.
+     */
+    public @NotNull AnimationTask schedule(@NotNull Consumer<AnimationTask> action,
+                                           @Nonnegative int delay,
+                                           @Nonnegative int period) {
+        return submit(new AnimationTask(action, Math.max(1, delay), Math.max(1, period)));
+    }
+
+    /**
+     * Schedules a repeating animation.
+     *
+     * @param action The frame to run.
+     * @param delay  The delay in ticks before the first frame.
+     * @param period The period in ticks between two frames.
+     * @return The task which can be used to cancel the animation.
+     */
+    public @NotNull AnimationTask schedule(@NotNull Runnable action,
+                                           @Nonnegative int delay,
+                                           @Nonnegative int period) {
+        return schedule(animationTask -> action.run(), delay, period);
+    }
+
+    /**
+     * Runs the frames which are due this tick and drops the animations that are over.
+     */
+    @Override
+    protected void runTick() {
+        AnimationTask animationTask;
+        while ((animationTask = pollPending()) != null)
+            this.animations.add(animationTask);
+
+        int size = this.animations.size();
+        int alive = 0;
+        for (int i = 0; i < size; i++) {
+            AnimationTask current = this.animations.get(i);
+
+            if (!current.isCancelled() && --current.countdown <= 0) {
+                current.countdown = current.period;
+                run(current);
+            }
+
+            if (current.isCancelled()) {
+                retire();
+                continue;
+            }
+            this.animations.set(alive++, current);
+        }
+        this.animations.subList(alive, size).clear();
+    }
+
+    /**
+     * An exception stops the animation, the other animations of the tick keep running.
+     *
+     * @param animationTask The animation that failed.
+     */
+    @Override
+    protected void failed(@NotNull AnimationTask animationTask) {
+        animationTask.cancel();
+    }
+
+    /**
+     * A repeating animation which is run by the {@link AnimationEngine}. Cancelling it means that no further frame will
+     * run, {@link #isCancelled()} is also true once the animation is over.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class AnimationTask extends TickLoop.Task<AnimationTask> {
+
+        final int period;
+
+        int countdown;
+
+        private AnimationTask(@NotNull Consumer<AnimationTask> action, int delay, int period) {
+            super(action);
+            this.countdown = delay;
+            this.period = period;
+        }
+    }
+}
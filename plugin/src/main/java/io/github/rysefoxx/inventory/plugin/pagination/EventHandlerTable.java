@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.other.EventCreator;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link EventCreator}s of a {@link RyseInventory}, grouped by event class. Every event class gets a global index
+ * the first time it is seen, so looking up the handlers of an event is an array access instead of a search through
+ * all registered events. Several handlers can be registered for the same event class, they are called in the order
+ * they were added.
+ * <br>
+ * The table is created when the inventory is built and does not change afterwards.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+public final class EventHandlerTable {
+
+    private static final AtomicInteger KINDS = new AtomicInteger();
+    private static final ClassValue<Integer> KIND = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(@NotNull Class<?> type) {
+            return KINDS.getAndIncrement();
+        }
+    };
+
+    private final EventCreator<?>[][] handlers;
+    private final List<Class<?>> types;
+
+    private EventHandlerTable(EventCreator<?>[][] handlers, @NotNull List<Class<?>> types) {
+        this.handlers = handlers;
+        this.types = types;
+    }
+
+    /**
+     * Groups the handlers by their event class.
+     *
+     * @param events The handlers of the inventory.
+     * @return The compiled table.
+     */
+    @Contract("_ -> new")
+    static @NotNull EventHandlerTable compile(@NotNull List<EventCreator<? extends Event>> events) {
+        EventCreator<?>[][] handlers = new EventCreator<?>[0][];
+        List<Class<?>> types = new ArrayList<>();
+
+        for (EventCreator<? extends Event> event : events) {
+            int kind = KIND.get(event.clazz());
+            if (kind >= handlers.length)
+                handlers = Arrays.copyOf(handlers, kind + 1);
+
+            EventCreator<?>[] current = handlers[kind];
+            if (current == null) {
+                handlers[kind] = new EventCreator<?>[]{event};
+                types.add(event.clazz());
+                continue;
+            }
+
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = event;
+            handlers[kind] = current;
+        }
+        return new EventHandlerTable(handlers, Collections.unmodifiableList(types));
+    }
+
+    /**
+     * @param type The event class.
+     * @return true if at least one handler is registered for the event class.
+     */
+    public boolean has(@NotNull Class<?> type) {
+        return get(type) != null;
+    }
+
+    /**
+     * @param type The event class.
+     * @return The handler that was registered first for the event class, or null if there is none.
+     */
+    public @Nullable EventCreator<?> first(@NotNull Class<?> type) {
+        EventCreator<?>[] handlers = get(type);
+        return handlers == null ? null : handlers[0];
+    }
+
+    /**
+     * Calls all handlers that are registered for the class of the event.
+     *
+     * @param event The event.
+     * @return true if at least one handler was called.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean dispatch(@NotNull Event event) {
+        EventCreator<?>[] handlers = get(event.getClass());
+        if (handlers == null) return false;
+
+        for (EventCreator<?> handler : handlers)
+            ((EventCreator<Event>) handler).accept(event);
+
+        return true;
+    }
+
+    /**
+     * @return The event classes that have at least one handler.
+     */
+    public @NotNull List<Class<?>> types() {
+        return this.types;
+    }
+
+    private EventCreator<?> @Nullable [] get(@NotNull Class<?> type) {
+        int kind = KIND.get(type);
+        return kind < this.handlers.length ? this.handlers[kind] : null;
+    }
+}
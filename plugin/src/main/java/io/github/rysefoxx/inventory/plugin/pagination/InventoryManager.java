@@ -22,28 +22,34 @@
  * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
  *
  */
-
 package io.github.rysefoxx.inventory.plugin.pagination;
 
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.listener.*;
-import io.github.rysefoxx.inventory.plugin.listener.own.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import space.arim.morepaperlib.MorePaperLib;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
+import javax.annotation.Nonnegative;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -53,43 +59,60 @@ import java.util.*;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class InventoryManager {
 
+    private static final long OPEN_COOLDOWN = 500;
+
     Plugin plugin;
     MorePaperLib morePaperLib;
 
     @NonFinal
     @Getter(AccessLevel.PROTECTED)
-    boolean invoked = false;
+    volatile boolean invoked = false;
 
-    HashMap<UUID, RyseInventory> inventories;
-    HashMap<UUID, InventoryContents> content;
-
-    Set<IntelligentItem> items;
+    @Getter(AccessLevel.NONE)
+    ConcurrentHashMap<Object, List<ItemReference>> itemsById;
+    @Getter(AccessLevel.NONE)
+    ReferenceQueue<IntelligentItem> collectedItems;
     List<RyseInventory> cachedInventories;
-    HashMap<UUID, ScheduledTask> updaterTask;
-    HashMap<UUID, List<RyseInventory>> lastInventories;
-    HashMap<UUID, Long> lastOpen;
+
+    @Getter(AccessLevel.NONE)
+    ConcurrentHashMap<UUID, ViewerSession> sessions;
+    @Getter(AccessLevel.NONE)
+    UpdateScheduler updateScheduler;
+    AnimationEngine animationEngine;
+    @Getter(AccessLevel.NONE)
+    ConcurrentHashMap<Object, RyseInventory> cachedByIdentifier;
+    @Getter(AccessLevel.NONE)
+    ConcurrentHashMap<Object, Set<UUID>> viewersByIdentifier;
+    @Getter(AccessLevel.NONE)
+    ThreadLocal<SlotBatch> slotBatches;
+    @Getter(AccessLevel.NONE)
+    EventDispatcher dispatcher;
 
     public InventoryManager(final Plugin plugin) {
         this.plugin = plugin;
         this.morePaperLib = new MorePaperLib(plugin);
 
-        this.inventories = new HashMap<>();
-        this.content = new HashMap<>();
-        this.items = new HashSet<>();
-        this.cachedInventories = new ArrayList<>();
-        this.updaterTask = new HashMap<>();
-        this.lastInventories = new HashMap<>();
-        this.lastOpen = new HashMap<>();
+        this.itemsById = new ConcurrentHashMap<>();
+        this.collectedItems = new ReferenceQueue<>();
+        this.cachedInventories = new CopyOnWriteArrayList<>();
+        this.sessions = new ConcurrentHashMap<>();
+        this.updateScheduler = new UpdateScheduler(this);
+        this.animationEngine = new AnimationEngine(this);
+        this.cachedByIdentifier = new ConcurrentHashMap<>();
+        this.viewersByIdentifier = new ConcurrentHashMap<>();
+        this.slotBatches = ThreadLocal.withInitial(SlotBatch::new);
+        this.dispatcher = new EventDispatcher(this, plugin);
     }
 
 
     /*
-     * Used to prevent multi open on menus, this is a 100ms delay between opening menus.
+     * Used to prevent multi open on menus, this is a 500ms delay between opening menus.
      * @param uuid The uuid of the player.
      * @return true if the player can open the menu, false if not.
      * */
     public boolean canOpen(UUID uuid) {
-        return !lastOpen.containsKey(uuid) || System.currentTimeMillis() - lastOpen.get(uuid) > 500;
+        ViewerSession session = this.sessions.get(uuid);
+        return session == null || session.canOpen(System.currentTimeMillis(), OPEN_COOLDOWN);
     }
 
     /*
@@ -97,7 +120,18 @@ public class InventoryManager {
      * @param uuid The uuid of the player.
      * */
     public void setLastOpen(UUID uuid) {
-        lastOpen.put(uuid, System.currentTimeMillis());
+        session(uuid).setLastOpen(System.currentTimeMillis());
+    }
+
+    /*
+     * Checks the open delay and stores the new open time in one step. Players without a session may always open a
+     * menu, their open time is stored when the session is created.
+     * @param uuid The uuid of the player.
+     * @return true if the player can open the menu, false if not.
+     * */
+    protected boolean tryOpen(@NotNull UUID uuid) {
+        ViewerSession session = this.sessions.get(uuid);
+        return session == null || session.tryOpen(System.currentTimeMillis(), OPEN_COOLDOWN);
     }
 
     /**
@@ -107,8 +141,37 @@ public class InventoryManager {
      * @throws NullPointerException If the item ID is null.
      */
     public void register(@NotNull final IntelligentItem item) throws NullPointerException {
-        if (item.getId() == null) throw new NullPointerException("The item has no ID!");
-        this.items.add(item);
+        Object id = item.getId();
+        if (id == null) throw new NullPointerException("The item has no ID!");
+
+        expungeCollectedItems();
+        this.itemsById.compute(id, (key, references) -> {
+            List<ItemReference> result = new ArrayList<>();
+            if (references != null) {
+                for (ItemReference reference : references) {
+                    IntelligentItem registered = reference.get();
+                    if (registered == item) return references;
+                    if (registered != null) result.add(reference);
+                }
+            }
+            result.add(new ItemReference(id, item, this.collectedItems));
+            return Collections.unmodifiableList(result);
+        });
+    }
+
+    /**
+     * Removes the IntelligentItem from the registry.
+     * <br>
+     * Items are only weakly referenced, so calling this method is optional. It frees the entry immediately instead of
+     * waiting for the garbage collector.
+     *
+     * @param item The item to remove.
+     */
+    public void unregister(@NotNull final IntelligentItem item) {
+        Object id = item.getId();
+        if (id == null) return;
+
+        this.itemsById.computeIfPresent(id, (key, references) -> prune(references, item));
     }
 
     /**
@@ -116,7 +179,14 @@ public class InventoryManager {
      * @return Returns the first IntelligentItem that matches the ID. If no item is found, null is returned.
      */
     public @Nullable IntelligentItem getItemById(@NotNull Object id) {
-        return this.items.stream().filter(item -> item.getId() == id).findFirst().orElse(null);
+        List<ItemReference> references = this.itemsById.get(id);
+        if (references == null) return null;
+
+        for (ItemReference reference : references) {
+            IntelligentItem item = reference.get();
+            if (item != null && Objects.equals(item.getId(), id)) return item;
+        }
+        return null;
     }
 
     /**
@@ -124,14 +194,60 @@ public class InventoryManager {
      * @return Returns all IntelligentItems that match the ID. If no item is found, an empty list is returned.
      */
     public @NotNull List<IntelligentItem> getAllItemsById(@NotNull Object id) {
-        List<IntelligentItem> result = new ArrayList<>();
-        for (IntelligentItem item : this.items) {
-            if (item.getId() != id) continue;
+        List<ItemReference> references = this.itemsById.get(id);
+        if (references == null) return new ArrayList<>();
+
+        List<IntelligentItem> result = new ArrayList<>(references.size());
+        for (ItemReference reference : references) {
+            IntelligentItem item = reference.get();
+            if (item == null || !Objects.equals(item.getId(), id)) continue;
             result.add(item);
         }
         return result;
     }
 
+    /**
+     * @return A snapshot of all registered items which are still in use.
+     */
+    public @NotNull Set<IntelligentItem> getItems() {
+        Set<IntelligentItem> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<ItemReference> references : this.itemsById.values()) {
+            for (ItemReference reference : references) {
+                IntelligentItem item = reference.get();
+                if (item != null) result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the entries of all items that were collected by the garbage collector.
+     */
+    private void expungeCollectedItems() {
+        Reference<? extends IntelligentItem> collected;
+        while ((collected = this.collectedItems.poll()) != null) {
+            ItemReference reference = (ItemReference) collected;
+            this.itemsById.computeIfPresent(reference.id, (key, references) -> prune(references, null));
+        }
+    }
+
+    /**
+     * @param references The registered references of an id.
+     * @param removed    An item which should be removed as well, or null.
+     * @return The references without collected entries, or null if none are left.
+     */
+    private static @Nullable List<ItemReference> prune(@NotNull List<ItemReference> references,
+                                                       @Nullable IntelligentItem removed) {
+        List<ItemReference> result = new ArrayList<>(references.size());
+        for (ItemReference reference : references) {
+            IntelligentItem item = reference.get();
+            if (item == null || item == removed) continue;
+            result.add(reference);
+        }
+        if (result.isEmpty()) return null;
+        return result.size() == references.size() ? references : Collections.unmodifiableList(result);
+    }
+
     /**
      * With this method you can get the inventory from the player.
      *
@@ -139,8 +255,9 @@ public class InventoryManager {
      * @return if the player has no inventory open.
      */
     public @NotNull Optional<RyseInventory> getInventory(@NotNull UUID uuid) {
-        if (!hasInventory(uuid)) return Optional.empty();
-        return Optional.ofNullable(this.inventories.get(uuid));
+        ViewerSession session = this.sessions.get(uuid);
+        if (session == null) return Optional.empty();
+        return Optional.ofNullable(session.getOpenedInventory());
     }
 
     /**
@@ -150,15 +267,7 @@ public class InventoryManager {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers(@NotNull RyseInventory inventory) {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> {
-            Optional<RyseInventory> optional = getInventory(player.getUniqueId());
-            optional.ifPresent(savedInventory -> {
-                if (!inventory.equals(savedInventory)) return;
-                players.add(player.getUniqueId());
-            });
-        });
-        return players;
+        return inventory.getOpenedPlayers();
     }
 
     /**
@@ -168,10 +277,11 @@ public class InventoryManager {
      * @return if there is no final inventory.
      */
     public @NotNull Optional<RyseInventory> getLastInventory(@NotNull UUID uuid) {
-        if (!this.lastInventories.containsKey(uuid)) return Optional.empty();
-        if (this.lastInventories.get(uuid).isEmpty()) return Optional.empty();
-        RyseInventory inventory = this.lastInventories.get(uuid).remove(this.lastInventories.get(uuid).size() - 1);
-        inventory.setBackward();
+        ViewerSession session = this.sessions.get(uuid);
+        if (session == null) return Optional.empty();
+        RyseInventory inventory = session.pollHistory();
+        if (inventory == null) return Optional.empty();
+        session.setBackward(true);
         return Optional.of(inventory);
     }
 
@@ -184,18 +294,33 @@ public class InventoryManager {
      * Only works if the inventory has also been assigned an identifier.
      */
     public @NotNull Optional<RyseInventory> getInventory(@NotNull Object identifier) {
-        Optional<RyseInventory> optional = this.inventories.values()
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
+        Set<UUID> viewers = this.viewersByIdentifier.get(identifier);
+        if (viewers != null) {
+            for (UUID uuid : viewers) {
+                ViewerSession session = this.sessions.get(uuid);
+                if (session == null) continue;
+
+                RyseInventory inventory = session.getOpenedInventory();
+                if (inventory != null && Objects.equals(inventory.getIdentifier(), identifier))
+                    return Optional.of(inventory);
+            }
+        }
 
-        if (optional.isPresent())
-            return optional;
+        return Optional.ofNullable(this.cachedByIdentifier.get(identifier));
+    }
 
-        return this.cachedInventories
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
+    /**
+     * With this method you can get all players who currently have an inventory with the given identifier open.
+     *
+     * @param identifier The ID to identify
+     * @return A read only set with the UUIDs of all viewers. Empty if nobody has such an inventory open.
+     * <p>
+     * Only works if the inventory has also been assigned an identifier.
+     */
+    public @NotNull Set<UUID> getViewers(@NotNull Object identifier) {
+        Set<UUID> viewers = this.viewersByIdentifier.get(identifier);
+        if (viewers == null) return Collections.emptySet();
+        return Collections.unmodifiableSet(viewers);
     }
 
     /**
@@ -205,31 +330,182 @@ public class InventoryManager {
      * @return the player inventory content.
      */
     public @NotNull Optional<InventoryContents> getContents(@NotNull UUID uuid) {
-        if (!this.content.containsKey(uuid)) return Optional.empty();
-        return Optional.ofNullable(this.content.get(uuid));
+        ViewerSession session = this.sessions.get(uuid);
+        if (session == null) return Optional.empty();
+        return Optional.ofNullable(session.getContents());
+    }
+
+    /**
+     * Checks the click limit of the inventory for the player.
+     *
+     * @param uuid      The uuid of the player.
+     * @param inventory The inventory the player clicked in.
+     * @return true if the click is allowed.
+     * @see RyseInventory.Builder#clickLimit(int, int, TimeSetting)
+     */
+    @ApiStatus.Internal
+    public boolean tryClick(@NotNull UUID uuid, @NotNull RyseInventory inventory) {
+        if (inventory.getClickLimit() <= 0) return true;
+
+        ViewerSession session = this.sessions.get(uuid);
+        return session == null || session.tryClick(System.currentTimeMillis(), inventory.getClickLimit(), inventory.getClickLimitPeriod() * 50L);
+    }
+
+    /**
+     * Checks if a frame of a title animation should be sent to the player.
+     *
+     * @param uuid      The uuid of the player.
+     * @param inventory The inventory whose title is animated.
+     * @param title     The title of the frame.
+     * @param force     If true, the title cooldown of the inventory is ignored.
+     * @return true if the title should be sent.
+     * @see RyseInventory.Builder#titleCooldown(int, TimeSetting)
+     */
+    @ApiStatus.Internal
+    public boolean tryTitle(@NotNull UUID uuid, @NotNull RyseInventory inventory, @NotNull String title, boolean force) {
+        ViewerSession session = this.sessions.get(uuid);
+        if (session == null) return true;
+
+        long cooldown = force || inventory.getTitleCooldown() <= 0 ? 0 : inventory.getTitleCooldown() * 50L;
+        return session.tryTitle(title, System.currentTimeMillis(), cooldown);
+    }
+
+    /**
+     * Forgets the last animated title of the player.
+     *
+     * @param uuid The uuid of the player.
+     */
+    protected void forgetTitle(@NotNull UUID uuid) {
+        ViewerSession session = this.sessions.get(uuid);
+        if (session != null)
+            session.forgetTitle();
+    }
+
+    /**
+     * Checks the cooldown of the clicked slot for the player. The cooldown is as long as the delay of the clicked item,
+     * so the item can not be clicked again while its consumer is still pending.
+     *
+     * @param uuid  The uuid of the player.
+     * @param slot  The clicked slot.
+     * @param delay The delay of the clicked item in ticks.
+     * @return true if the slot may be clicked.
+     */
+    @ApiStatus.Internal
+    public boolean tryClickSlot(@NotNull UUID uuid, int slot, int delay) {
+        if (delay <= 0) return true;
+
+        ViewerSession session = this.sessions.get(uuid);
+        return session == null || session.tryClickSlot(slot, System.currentTimeMillis(), delay * 50L);
+    }
+
+    /**
+     * With this method you can get the viewer session of the player.
+     *
+     * @param uuid The UUID of the player.
+     * @return the session of the player.
+     */
+    @ApiStatus.Internal
+    public @NotNull Optional<ViewerSession> getSession(@NotNull UUID uuid) {
+        return Optional.ofNullable(this.sessions.get(uuid));
+    }
+
+    /**
+     * @return A copy of the inventories the players are currently viewing.
+     * @deprecated The inventories are kept in the session of each player. Use {@link #getInventory(UUID)} instead.
+     */
+    @Deprecated
+    public @NotNull HashMap<UUID, RyseInventory> getInventories() {
+        HashMap<UUID, RyseInventory> inventories = new HashMap<>();
+        this.sessions.forEach((uuid, session) -> {
+            RyseInventory inventory = session.getOpenedInventory();
+            if (inventory != null)
+                inventories.put(uuid, inventory);
+        });
+        return inventories;
+    }
+
+    /**
+     * @return A copy of the contents of the inventories the players are currently viewing.
+     * @deprecated The contents are kept in the session of each player. Use {@link #getContents(UUID)} instead.
+     */
+    @Deprecated
+    public @NotNull HashMap<UUID, InventoryContents> getContent() {
+        HashMap<UUID, InventoryContents> contents = new HashMap<>();
+        this.sessions.forEach((uuid, session) -> {
+            InventoryContents content = session.getContents();
+            if (content != null)
+                contents.put(uuid, content);
+        });
+        return contents;
+    }
+
+    /**
+     * @return A copy of the running update tasks.
+     * @deprecated The update tasks are kept in the session of each player and are no longer scheduler tasks.
+     */
+    @Deprecated
+    public @NotNull HashMap<UUID, UpdateScheduler.UpdateTask> getUpdaterTask() {
+        HashMap<UUID, UpdateScheduler.UpdateTask> tasks = new HashMap<>();
+        this.sessions.forEach((uuid, session) -> {
+            UpdateScheduler.UpdateTask task = session.currentUpdaterTask();
+            if (task != null)
+                tasks.put(uuid, task);
+        });
+        return tasks;
+    }
+
+    /**
+     * @return A copy of the inventories the players navigated away from, the most recent one last.
+     * @deprecated The navigation history is kept in the session of each player. Use {@link #getLastInventory(UUID)} instead.
+     */
+    @Deprecated
+    public @NotNull HashMap<UUID, List<RyseInventory>> getLastInventories() {
+        HashMap<UUID, List<RyseInventory>> lastInventories = new HashMap<>();
+        this.sessions.forEach((uuid, session) -> {
+            List<RyseInventory> history = session.historySnapshot();
+            if (!history.isEmpty())
+                lastInventories.put(uuid, history);
+        });
+        return lastInventories;
+    }
+
+    /**
+     * @return A copy of the times in milliseconds the players opened an inventory the last time.
+     * @deprecated The last open time is kept in the session of each player. Use {@link #canOpen(UUID)} instead.
+     */
+    @Deprecated
+    public @NotNull HashMap<UUID, Long> getLastOpen() {
+        HashMap<UUID, Long> lastOpen = new HashMap<>();
+        this.sessions.forEach((uuid, session) -> {
+            long time = session.lastOpenTime();
+            if (time != 0)
+                lastOpen.put(uuid, time);
+        });
+        return lastOpen;
     }
 
     /**
      * Registers the standard events
      */
     public void invoke() {
-        Bukkit.getPluginManager().registerEvents(new BlockBreakListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new EntityDamageListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new FoodLevelChangeListener(this), this.plugin);
         Bukkit.getPluginManager().registerEvents(new InventoryClickListener(this), this.plugin);
         Bukkit.getPluginManager().registerEvents(new InventoryCloseListener(this), this.plugin);
         Bukkit.getPluginManager().registerEvents(new InventoryDragListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new PlayerPickupItemListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new PlayerQuitListener(this), this.plugin);
         Bukkit.getPluginManager().registerEvents(new PluginDisableListener(this, this.plugin), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new PotionSplashListener(this), this.plugin);
-
-        Bukkit.getPluginManager().registerEvents(new RyseInventoryCloseListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new RyseInventoryOpenListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new RyseInventoryPreCloseListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new RyseInventoryPreOpenListener(this), this.plugin);
-        Bukkit.getPluginManager().registerEvents(new RyseInventoryTitleChangeListener(this), this.plugin);
+        Bukkit.getPluginManager().registerEvents(new PlayerQuitListener(this), this.plugin);
         invoked = true;
+
+        this.cachedInventories.forEach(this.dispatcher::register);
+    }
+
+    /**
+     * Registers the listeners and custom events the inventory needs, if they are not registered yet.
+     *
+     * @param inventory The inventory.
+     */
+    protected void registerHandlers(@NotNull RyseInventory inventory) {
+        if (!this.invoked) return;
+        this.dispatcher.register(inventory);
     }
 
     /**
@@ -240,7 +516,29 @@ public class InventoryManager {
      */
     @Contract(pure = true)
     public boolean hasInventory(@NotNull UUID uuid) {
-        return this.inventories.containsKey(uuid);
+        ViewerSession session = this.sessions.get(uuid);
+        return session != null && session.getOpenedInventory() != null;
+    }
+
+    /**
+     * Returns the session of the player and creates it if the player has none yet.
+     *
+     * @param uuid The UUID of the player.
+     * @return The session of the player.
+     */
+    protected @NotNull ViewerSession session(@NotNull UUID uuid) {
+        return this.sessions.computeIfAbsent(uuid, ViewerSession::new);
+    }
+
+    /**
+     * Removes the session of a player who left the server. Sessions of players who are online again are kept.
+     *
+     * @param uuid The UUID of the player who left.
+     */
+    @ApiStatus.Internal
+    public void removeSession(@NotNull UUID uuid) {
+        if (Bukkit.getPlayer(uuid) != null) return;
+        removeInventoryFromPlayer(uuid);
     }
 
     /**
@@ -249,34 +547,43 @@ public class InventoryManager {
      * @param uuid The UUID of the player to remove the inventory from.
      */
     protected void removeInventoryFromPlayer(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
-        this.content.remove(uuid);
-        this.lastInventories.clear();
-        this.lastOpen.clear();
-        ScheduledTask task = this.updaterTask.remove(uuid);
+        ViewerSession session = this.sessions.remove(uuid);
+        if (session == null) return;
 
-        if (task != null)
-            task.cancel();
+        session.cancelUpdaterTask();
+        session.cancelAnimations();
+        session.discardSlotUpdates();
+
+        RyseInventory inventory = session.getOpenedInventory();
+        if (inventory != null)
+            unindexViewer(uuid, inventory);
     }
 
     /**
-     * It removes the inventory of the player with the given UUID from the HashMap
+     * It removes the inventory of the player with the given UUID from the session
      *
      * @param uuid The UUID of the player to remove the inventory of.
      */
     protected void removeInventory(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
+        this.sessions.computeIfPresent(uuid, (key, session) -> {
+            RyseInventory inventory = session.getOpenedInventory();
+            if (inventory != null)
+                unindexViewer(uuid, inventory);
+
+            session.setOpenedInventory(null);
+            return session;
+        });
     }
 
     /**
-     * It puts the contents of the inventory into a HashMap
+     * It stores the contents of the inventory in the session of the player
      *
      * @param uuid     The UUID of the player who's inventory you want to set.
      * @param contents The InventoryContents object that you want to set.
      */
     @ApiStatus.Internal
     public void setContents(@NotNull UUID uuid, @NotNull InventoryContents contents) {
-        this.content.put(uuid, contents);
+        session(uuid).setContents(contents);
     }
 
     /**
@@ -286,7 +593,57 @@ public class InventoryManager {
      * @param inventory The inventory to set.
      */
     protected void setInventory(@NotNull UUID uuid, @NotNull RyseInventory inventory) {
-        this.inventories.put(uuid, inventory);
+        this.sessions.compute(uuid, (key, session) -> {
+            if (session == null)
+                session = new ViewerSession(uuid);
+
+            RyseInventory previous = session.getOpenedInventory();
+            if (previous != null)
+                unindexViewer(uuid, previous);
+
+            session.setOpenedInventory(inventory);
+            indexViewer(uuid, inventory);
+            return session;
+        });
+    }
+
+    /**
+     * Adds the player to the viewers of the inventory and its identifier.
+     *
+     * @param uuid      The UUID of the player
+     * @param inventory The inventory the player opened.
+     */
+    private void indexViewer(@NotNull UUID uuid, @NotNull RyseInventory inventory) {
+        inventory.addViewer(uuid);
+
+        Object identifier = inventory.getIdentifier();
+        if (identifier == null) return;
+
+        this.viewersByIdentifier.compute(identifier, (key, viewers) -> {
+            if (viewers == null)
+                viewers = ConcurrentHashMap.newKeySet();
+
+            viewers.add(uuid);
+            return viewers;
+        });
+    }
+
+    /**
+     * Removes the player from the viewers of the inventory and its identifier.
+     *
+     * @param uuid      The UUID of the player
+     * @param inventory The inventory the player closed.
+     */
+    private void unindexViewer(@NotNull UUID uuid, @NotNull RyseInventory inventory) {
+        inventory.removeViewer(uuid);
+
+        Object identifier = inventory.getIdentifier();
+        if (identifier == null) return;
+
+        this.viewersByIdentifier.computeIfPresent(identifier, (key, viewers) -> {
+            viewers.remove(uuid);
+            return viewers.isEmpty() ? null : viewers;
+        });
     }
 
     /**
@@ -299,10 +656,8 @@ public class InventoryManager {
     protected void setLastInventory(@NotNull UUID uuid,
                                     @NotNull RyseInventory inventory,
                                     @NotNull RyseInventory newInventory) {
-        List<RyseInventory> inventoryList = this.lastInventories.getOrDefault(uuid, new ArrayList<>());
         if (inventory.equals(newInventory)) return;
-        inventoryList.add(inventory);
-        this.lastInventories.put(uuid, inventoryList);
+        session(uuid).pushHistory(inventory);
     }
 
     /**
@@ -311,9 +666,9 @@ public class InventoryManager {
      * @param uuid The UUID of the player to stop updating.
      */
     protected void stopUpdate(@NotNull UUID uuid) {
-        if (!this.updaterTask.containsKey(uuid)) return;
-        ScheduledTask task = this.updaterTask.remove(uuid);
-        task.cancel();
+        ViewerSession session = this.sessions.get(uuid);
+        if (session == null) return;
+        session.cancelUpdaterTask();
     }
 
     /**
@@ -323,26 +678,86 @@ public class InventoryManager {
      * @param inventory The inventory that will be updated.
      */
     protected void invokeScheduler(@NotNull Player player, @NotNull RyseInventory inventory) {
-        if (this.updaterTask.containsKey(player.getUniqueId())) return;
+        ViewerSession session = this.sessions.get(player.getUniqueId());
+        if (session == null || session.hasUpdaterTask()) return;
         if (!inventory.isUpdateTask()) return;
 
-        int delay = inventory.getDelay();
-        if (morePaperLib.scheduling().isUsingFolia() && delay == 0) {
-            delay = 1;
-        }
-        morePaperLib.scheduling().globalRegionalScheduler().runAtFixedRate(scheduledTask -> {
-            if (!hasInventory(player.getUniqueId())) {
-                scheduledTask.cancel();
+        UpdateScheduler.UpdateTask task = this.updateScheduler.schedule(updateTask -> {
+            ViewerSession current = this.sessions.get(player.getUniqueId());
+            if (current != session || current.getOpenedInventory() != inventory) {
+                updateTask.cancel();
                 return;
             }
-            RyseInventory savedInventory = inventories.get(player.getUniqueId());
-            if (savedInventory != inventory) {
-                scheduledTask.cancel();
-                return;
-            }
-            savedInventory.getProvider().update(player, content.get(player.getUniqueId()));
-            this.updaterTask.put(player.getUniqueId(), scheduledTask);
-        }, delay, inventory.getPeriod());
+            InventoryContents contents = current.getContents();
+            if (contents == null) return;
+            inventory.getProvider().update(player, contents);
+        }, inventory.getDelay(), inventory.getPeriod(), inventory.getUpdatePriority());
+
+        if (!session.setUpdaterTaskIfAbsent(task))
+            task.cancel();
+    }
+
+    /**
+     * Runs the action as one batch of item updates. Updates it makes are collected per slot and written on the calling
+     * thread once the action is done, so the last update of a slot wins and is sent only once.
+     *
+     * @param action The action to run, e.g. all updates or animation frames of a tick.
+     */
+    protected void runBatched(@NotNull Runnable action) {
+        SlotBatch batch = this.slotBatches.get();
+        batch.depth++;
+        try {
+            action.run();
+        } finally {
+            if (--batch.depth == 0)
+                batch.flush();
+        }
+    }
+
+    /**
+     * Updates an item of the player's inventory. Inside {@link #runBatched(Runnable)} the update is queued until the
+     * batch is done, otherwise it is written right away on the calling thread.
+     *
+     * @param session   The session of the player.
+     * @param slot      The slot of the item.
+     * @param itemStack The item or null to clear the slot.
+     */
+    protected void queueSlotUpdate(@NotNull ViewerSession session, int slot, @Nullable ItemStack itemStack) {
+        SlotBatch batch = this.slotBatches.get();
+        boolean clean = session.markDirty(slot, itemStack);
+
+        if (batch.depth == 0) {
+            session.flushSlotUpdates();
+            return;
+        }
+
+        if (clean)
+            batch.sessions.add(session);
+    }
+
+    /**
+     * Sets how much time the provider updates of all viewers may take together in one tick.
+     * Updates that do not fit into the budget are run in the following ticks, ordered by their priority.
+     *
+     * @param time The budget. 0 disables the budget. The default is 10 milliseconds.
+     * @param unit The unit of the budget.
+     */
+    public void setUpdateBudget(@Nonnegative long time, @NotNull TimeUnit unit) {
+        this.updateScheduler.setBudget(time, unit);
+    }
+
+    /**
+     * @return How many due provider updates could not be run in the last tick because the budget was used up.
+     */
+    public int getDeferredUpdates() {
+        return this.updateScheduler.getDeferred();
+    }
+
+    /**
+     * @return How often a provider update was deferred to a following tick since the manager was created.
+     */
+    public long getTotalDeferredUpdates() {
+        return this.updateScheduler.getTotalDeferred();
     }
 
     /**
@@ -352,5 +767,39 @@ public class InventoryManager {
      */
     protected void addToCache(RyseInventory ryseInventory) {
         this.cachedInventories.add(ryseInventory);
+
+        Object identifier = ryseInventory.getIdentifier();
+        if (identifier != null)
+            this.cachedByIdentifier.putIfAbsent(identifier, ryseInventory);
+    }
+
+    /**
+     * The sessions with queued item updates of the batch that is running on a thread.
+     */
+    private static final class SlotBatch {
+
+        private final List<ViewerSession> sessions = new ArrayList<>();
+        private int depth;
+
+        private void flush() {
+            for (int i = 0; i < this.sessions.size(); i++)
+                this.sessions.get(i).flushSlotUpdates();
+            this.sessions.clear();
+        }
+    }
+
+    /**
+     * Weak reference to a registered item which remembers the id it was registered with.
+     */
+    private static final class ItemReference extends WeakReference<IntelligentItem> {
+
+        private final Object id;
+
+        private ItemReference(@NotNull Object id,
+                              @NotNull IntelligentItem item,
+                              @NotNull ReferenceQueue<IntelligentItem> queue) {
+            super(item, queue);
+            this.id = id;
+        }
     }
 }
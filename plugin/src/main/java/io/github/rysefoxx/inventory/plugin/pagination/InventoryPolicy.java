@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.enums.*;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * The options, close reasons, ignored clicks, enabled actions and disabled events of a {@link RyseInventory}, compiled
+ * into one bitmask. The listeners check them with a single bit test instead of searching the lists for every event.
+ * <br>
+ * The policy is created when the inventory is built and does not change afterwards.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+public final class InventoryPolicy {
+
+    private static final int OPTIONS = 0;
+    private static final int CLOSE_REASONS = OPTIONS + InventoryOptions.values().length;
+    private static final int IGNORED_CLICKS = CLOSE_REASONS + CloseReason.values().length;
+    private static final int ENABLED_ACTIONS = IGNORED_CLICKS + DisabledInventoryClick.values().length;
+    private static final int DISABLED_EVENTS = ENABLED_ACTIONS + Action.values().length;
+
+    private static final long TOP_CLICKS = bit(IGNORED_CLICKS, DisabledInventoryClick.TOP) | bit(IGNORED_CLICKS, DisabledInventoryClick.BOTH);
+    private static final long BOTTOM_CLICKS = bit(IGNORED_CLICKS, DisabledInventoryClick.BOTTOM) | bit(IGNORED_CLICKS, DisabledInventoryClick.BOTH);
+
+    private final long bits;
+
+    private InventoryPolicy(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Compiles the current settings of the inventory.
+     *
+     * @param inventory The inventory.
+     * @return The compiled policy.
+     */
+    @Contract("_ -> new")
+    static @NotNull InventoryPolicy compile(@NotNull RyseInventory inventory) {
+        return new InventoryPolicy(bits(OPTIONS, inventory.getOptions())
+                | bits(CLOSE_REASONS, inventory.getCloseReasons())
+                | bits(IGNORED_CLICKS, inventory.getIgnoreClickEvent())
+                | bits(ENABLED_ACTIONS, inventory.getEnabledActions())
+                | bits(DISABLED_EVENTS, inventory.getDisabledEvents()));
+    }
+
+    /**
+     * @param option The option to check.
+     * @return true if the option was set with {@link RyseInventory.Builder#options(InventoryOptions...)}.
+     */
+    public boolean hasOption(@NotNull InventoryOptions option) {
+        return (this.bits & bit(OPTIONS, option)) != 0;
+    }
+
+    /**
+     * @param reason The close reason to check.
+     * @return true if the inventory is closed for this reason.
+     */
+    public boolean closesOn(@NotNull CloseReason reason) {
+        return (this.bits & bit(CLOSE_REASONS, reason)) != 0;
+    }
+
+    /**
+     * @param action The action to check.
+     * @return true if the action is enabled.
+     */
+    public boolean isEnabled(@NotNull Action action) {
+        return (this.bits & bit(ENABLED_ACTIONS, action)) != 0;
+    }
+
+    /**
+     * @param event The event to check.
+     * @return true if the event is disabled.
+     */
+    public boolean isDisabled(@NotNull DisabledEvents event) {
+        return (this.bits & bit(DISABLED_EVENTS, event)) != 0;
+    }
+
+    /**
+     * @return true if the click events of the top inventory are ignored, so the player can move items in it.
+     */
+    public boolean ignoresTopClicks() {
+        return (this.bits & TOP_CLICKS) != 0;
+    }
+
+    /**
+     * @return true if the click events of the bottom inventory are ignored, so the player can move items in it.
+     */
+    public boolean ignoresBottomClicks() {
+        return (this.bits & BOTTOM_CLICKS) != 0;
+    }
+
+    private static long bits(int offset, @NotNull Collection<? extends Enum<?>> values) {
+        long bits = 0;
+        for (Enum<?> value : values)
+            bits |= bit(offset, value);
+
+        return bits;
+    }
+
+    @Contract(pure = true)
+    private static long bit(int offset, @NotNull Enum<?> value) {
+        return 1L << (offset + value.ordinal());
+    }
+}
@@ -31,16 +31,13 @@ import io.github.rysefoxx.inventory.plugin.enums.IntelligentType;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -62,8 +59,7 @@ public class Pagination {
     @Getter(AccessLevel.PROTECTED)
     private boolean calledItemsPerPage;
 
-    @Setter(AccessLevel.PROTECTED)
-    private List<IntelligentItemData> inventoryData = new ArrayList<>();
+    private final PaginationStorage storage;
 
     /**
      * @param inventory The inventory where the pagination is used.
@@ -73,6 +69,7 @@ public class Pagination {
         this.inventory = inventory;
         this.itemsPerPage = 1;
         this.page = 0;
+        this.storage = new PaginationStorage();
     }
 
     public Pagination(@NotNull Pagination pagination) {
@@ -80,7 +77,7 @@ public class Pagination {
         this.itemsPerPage = pagination.itemsPerPage;
         this.page = pagination.page;
         this.slotIterator = pagination.slotIterator;
-        this.inventoryData = pagination.inventoryData;
+        this.storage = pagination.storage;
         this.calledItemsPerPage = pagination.calledItemsPerPage;
     }
 
@@ -110,8 +107,7 @@ public class Pagination {
         if (this.inventory.getFixedPageSize() != -1)
             return this.inventory.getFixedPageSize();
 
-        return (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        return (int) Math.ceil((double) this.storage.unplaced() / calculateValueForPage());
     }
 
     /**
@@ -128,8 +124,7 @@ public class Pagination {
         if (this.inventory.getFixedPageSize() != -1)
             return this.page == this.inventory.getFixedPageSize() - 1;
 
-        int slide = (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        int slide = (int) Math.ceil((double) this.storage.unplaced() / calculateValueForPage());
 
         return this.page >= (slide != 0 ? slide - 1 : 0);
     }
@@ -186,7 +181,7 @@ public class Pagination {
      */
     public void setItems(@NotNull List<IntelligentItem> items) {
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            this.storage.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -196,7 +191,7 @@ public class Pagination {
      */
     public void setItems(IntelligentItem @NotNull [] items) {
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            this.storage.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -205,7 +200,7 @@ public class Pagination {
      * @param item the intelligent ItemStack
      */
     public void addItem(@NotNull IntelligentItem item) {
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        this.storage.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -214,7 +209,7 @@ public class Pagination {
      * @param itemStack the ItemStack
      */
     public void addItem(@NotNull ItemStack itemStack) {
-        this.inventoryData.add(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
+        this.storage.add(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
     }
 
     /**
@@ -228,7 +223,7 @@ public class Pagination {
                 ? IntelligentItem.empty(itemStack)
                 : IntelligentItem.ignored(itemStack);
 
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        this.storage.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -253,7 +248,7 @@ public class Pagination {
 
         remove(slot);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, this.page, slot, false, true));
+        this.storage.add(new IntelligentItemData(newItem, this.page, slot, false, true));
     }
 
     /**
@@ -274,7 +269,7 @@ public class Pagination {
 
         remove(slot, page);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, page, slot, transfer, false));
+        this.storage.add(new IntelligentItemData(newItem, page, slot, transfer, false));
     }
 
     /**
@@ -295,7 +290,7 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public void remove(@Nonnegative int slot) {
-        this.inventoryData.removeIf(data -> data.getPage() == this.page && data.getModifiedSlot() == slot);
+        this.storage.remove(slot, this.page);
     }
 
     /**
@@ -305,7 +300,7 @@ public class Pagination {
      * @param page The page of the inventory.
      */
     protected void remove(@Nonnegative int slot, @Nonnegative int page) {
-        this.inventoryData.removeIf(data -> data.getPage() == page && data.getModifiedSlot() == slot);
+        this.storage.remove(slot, page);
     }
 
     /**
@@ -327,19 +322,14 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem getPresent(@Nonnegative int slot) {
-        return this.inventoryData.stream()
-                .filter(data -> data.getPage() == page && data.getModifiedSlot() == slot && data.isPresetOnAllPages())
-                .findFirst()
-                .map(IntelligentItemData::getItem)
-                .orElse(null);
+        IntelligentItemData data = this.storage.get(slot, this.page);
+        return data != null && data.isPresetOnAllPages() ? data.getItem() : null;
     }
 
     /**
      * Return the item in the given slot on the given page, or null if there is no item in that slot.
      * <p>
-     * The first thing we do is filter the inventory data to only include data that matches the given page and slot. Then
-     * we use `findFirst()` to get the first item in the stream, if there is one. If there is an item, we use `map()` to
-     * get the item from the data. If there is no item, we use `orElse()` to return null
+     * Items that are preset on all pages are looked up first, then the slot of the given page.
      *
      * @param slot The slot number of the item you want to get.
      * @param page The page number of the inventory.
@@ -347,25 +337,32 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem get(@Nonnegative int slot, @Nonnegative int page) {
-        for (IntelligentItemData data : this.inventoryData) {
-            if (data.isPresetOnAllPages() && data.getModifiedSlot() == slot)
-                return data.getItem();
+        IntelligentItemData data = this.storage.preset(slot);
+        if (data == null)
+            data = this.storage.get(slot, page);
 
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
-
-        return null;
+        return data == null ? null : data.getItem();
     }
 
     /**
-     * Returns the inventory data of the player.
+     * Returns the inventory data of the player. Changes have to be made through the pagination, so the index stays
+     * up to date.
      *
-     * @return A list of IntelligentItemData objects.
+     * @return A read-only view of the IntelligentItemData objects.
      */
     @ApiStatus.Internal
     public @NotNull List<IntelligentItemData> getInventoryData() {
-        return this.inventoryData;
+        return this.storage.view();
+    }
+
+    /**
+     * Replaces the inventory data and rebuilds the page index. This must also be called after the page or slot of
+     * already added data was changed, e.g. after the pagination layout was applied.
+     *
+     * @param inventoryData The new inventory data.
+     */
+    protected void setInventoryData(@NotNull List<IntelligentItemData> inventoryData) {
+        this.storage.rebuild(inventoryData);
     }
 
     /**
@@ -374,7 +371,7 @@ public class Pagination {
      * @param itemData The IntelligentItemData object that you want to add to the inventory.
      */
     protected void addInventoryData(IntelligentItemData itemData) {
-        this.inventoryData.add(itemData);
+        this.storage.add(itemData);
     }
 
     /**
@@ -384,9 +381,32 @@ public class Pagination {
      * @return A list of IntelligentItemData objects.
      */
     protected @NotNull List<IntelligentItemData> getDataByPage(@Nonnegative int page) {
-        return this.inventoryData.stream()
-                .filter(item -> item.getPage() == page)
-                .collect(Collectors.toList());
+        return this.storage.dataByPage(page);
+    }
+
+    /**
+     * @param page The page number.
+     * @return The amount of slots that are occupied on the page.
+     */
+    protected @Nonnegative int sizeOfPage(@Nonnegative int page) {
+        return this.storage.sizeOfPage(page);
+    }
+
+    /**
+     * @return A bitmask of all slots that are occupied by an item that is preset on all pages.
+     */
+    protected long presetSlots() {
+        return this.storage.presetMask();
+    }
+
+    /**
+     * Returns a bitmask of the occupied slots for every page. Pages after the last entry are empty. Items that are
+     * preset on all pages are not included, see {@link #presetSlots()}.
+     *
+     * @return The bitmasks, indexed by page.
+     */
+    protected long @NotNull [] occupiedSlots() {
+        return this.storage.occupiedSlots();
     }
 
     /**
@@ -1,27 +1,75 @@
 package io.github.rysefoxx.inventory.plugin.pagination;
 
 import lombok.AccessLevel;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.Arrays;
 
-@Getter
-@NoArgsConstructor
-@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+/**
+ * The slots and pages in which the items of a pagination are placed, in placement order. The slots are handed out
+ * through a cursor.
+ * <br>
+ * A plan also remembers the {@link SlotIterator}, the inventory size and the occupied slots it was computed for, so it
+ * can be reused as long as none of them changed. Copies share the arrays and only keep their own cursor.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
 public class PaginationData {
 
-    List<Integer> slots = new ArrayList<>();
-    List<Integer> pages = new ArrayList<>();
+    private static final long[] NO_SLOTS = new long[0];
+
+    int[] slots;
+    int[] pages;
+    int size;
+    int slotCursor;
+    int pageCursor;
+    boolean shared;
+
+    @Nullable SlotIterator iterator;
+    int inventorySize = -1;
+    int itemsPerPage = -1;
+    long blackList;
+    long presetSlots;
+    long[] occupiedSlots = NO_SLOTS;
+
+    public PaginationData() {
+        this.slots = new int[16];
+        this.pages = new int[16];
+    }
 
     public PaginationData(@NotNull PaginationData paginationData) {
-        this.slots.addAll(paginationData.slots);
-        this.pages.addAll(paginationData.pages);
+        this.slots = paginationData.slots;
+        this.pages = paginationData.pages;
+        this.size = paginationData.size;
+        this.slotCursor = paginationData.slotCursor;
+        this.pageCursor = paginationData.pageCursor;
+        this.iterator = paginationData.iterator;
+        this.inventorySize = paginationData.inventorySize;
+        this.itemsPerPage = paginationData.itemsPerPage;
+        this.blackList = paginationData.blackList;
+        this.presetSlots = paginationData.presetSlots;
+        this.occupiedSlots = paginationData.occupiedSlots;
+        this.shared = true;
+        paginationData.shared = true;
+    }
+
+    protected PaginationData(@NotNull SlotIterator iterator,
+                             @Nonnegative int inventorySize,
+                             @Nonnegative int itemsPerPage,
+                             long blackList,
+                             long presetSlots,
+                             long @NotNull [] occupiedSlots,
+                             @Nonnegative int capacity) {
+        this.slots = new int[Math.max(capacity, 1)];
+        this.pages = new int[Math.max(capacity, 1)];
+        this.iterator = iterator;
+        this.inventorySize = inventorySize;
+        this.itemsPerPage = itemsPerPage;
+        this.blackList = blackList;
+        this.presetSlots = presetSlots;
+        this.occupiedSlots = occupiedSlots;
     }
 
     public @NotNull PaginationData newInstance() {
@@ -29,18 +77,68 @@ public class PaginationData {
     }
 
     public void add(@Nonnegative int slot, @Nonnegative int page) {
-        this.slots.add(slot);
-        this.pages.add(page);
+        if (this.shared || this.size == this.slots.length) {
+            int capacity = this.size == this.slots.length ? this.slots.length * 2 : this.slots.length;
+            this.slots = Arrays.copyOf(this.slots, capacity);
+            this.pages = Arrays.copyOf(this.pages, capacity);
+            this.shared = false;
+        }
+
+        this.slots[this.size] = slot;
+        this.pages[this.size] = page;
+        this.size++;
     }
 
     public int getFirstSlot() {
-        if (this.slots.isEmpty()) return -1;
-        return this.slots.remove(0);
+        if (this.slotCursor >= this.size) return -1;
+        return this.slots[this.slotCursor++];
     }
 
     public int getFirstPage() {
-        if (this.pages.isEmpty()) return -1;
-        return this.pages.remove(0);
+        if (this.pageCursor >= this.size) return -1;
+        return this.pages[this.pageCursor++];
+    }
+
+    /**
+     * @return The slots that have not been handed out yet.
+     */
+    public int @NotNull [] getSlots() {
+        return Arrays.copyOfRange(this.slots, this.slotCursor, this.size);
+    }
+
+    /**
+     * @return The pages that have not been handed out yet.
+     */
+    public int @NotNull [] getPages() {
+        return Arrays.copyOfRange(this.pages, this.pageCursor, this.size);
+    }
+
+    /**
+     * Checks if this plan was computed for the given parameters and contains enough slots.
+     *
+     * @param iterator      The iterator of the pagination.
+     * @param inventorySize The size of the inventory.
+     * @param itemsPerPage  How many items may be placed on a page.
+     * @param blackList     The blacklisted slots as bitmask.
+     * @param presetSlots   The slots that are occupied on all pages as bitmask.
+     * @param occupiedSlots The occupied slots as bitmask per page.
+     * @param requiredSlots How many slots are needed.
+     * @return true if the plan can be reused.
+     */
+    protected boolean matches(@NotNull SlotIterator iterator,
+                              @Nonnegative int inventorySize,
+                              @Nonnegative int itemsPerPage,
+                              long blackList,
+                              long presetSlots,
+                              long @NotNull [] occupiedSlots,
+                              @Nonnegative int requiredSlots) {
+        return this.iterator == iterator
+                && this.inventorySize == inventorySize
+                && this.itemsPerPage == itemsPerPage
+                && this.blackList == blackList
+                && this.presetSlots == presetSlots
+                && this.size - this.slotCursor >= requiredSlots
+                && Arrays.equals(this.occupiedSlots, occupiedSlots);
     }
 
     @Override
@@ -48,6 +146,7 @@ public class PaginationData {
         if (this == object) return true;
         if (object == null || getClass() != object.getClass()) return false;
         PaginationData paginationData = (PaginationData) object;
-        return Objects.equals(slots, paginationData.slots) && Objects.equals(pages, paginationData.pages);
+        return Arrays.equals(this.slots, this.slotCursor, this.size, paginationData.slots, paginationData.slotCursor, paginationData.size)
+                && Arrays.equals(this.pages, this.pageCursor, this.size, paginationData.pages, paginationData.pageCursor, paginationData.size);
     }
 }
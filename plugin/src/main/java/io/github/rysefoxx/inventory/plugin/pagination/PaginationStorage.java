@@ -0,0 +1,408 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The data of a {@link Pagination}. The data is kept in insertion order in an array, every placed item is additionally
+ * linked into a chain per page and slot, so lookups and removals do not have to scan the data. Removed entries leave
+ * a hole which is closed once the holes outnumber the entries. The storage is shared between copies of a pagination.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+final class PaginationStorage {
+
+    static final int SLOTS = 54;
+    private static final int MIN_CAPACITY = 16;
+
+    private final List<IntelligentItemData> data = new View();
+    private final List<Page> pages = new ArrayList<>();
+    private final int[] presetHeads = new int[SLOTS];
+    private final int[] presetTails = new int[SLOTS];
+    private long presetMask;
+    private int unplaced;
+
+    private IntelligentItemData[] entries = new IntelligentItemData[MIN_CAPACITY];
+    private int[] next = new int[MIN_CAPACITY];
+    private int[] presetPrevious = new int[MIN_CAPACITY];
+    private int[] presetNext = new int[MIN_CAPACITY];
+    private int length;
+    private int size;
+
+    PaginationStorage() {
+        Arrays.fill(this.presetHeads, -1);
+        Arrays.fill(this.presetTails, -1);
+    }
+
+    /**
+     * @return A read-only view of the data in insertion order.
+     */
+    @NotNull List<IntelligentItemData> view() {
+        return this.data;
+    }
+
+    /**
+     * @return How many items were added without a slot.
+     */
+    int unplaced() {
+        return this.unplaced;
+    }
+
+    /**
+     * @return A bitmask of all slots that are occupied by an item that is preset on all pages.
+     */
+    long presetMask() {
+        return this.presetMask;
+    }
+
+    private @Nullable Page page(int page) {
+        return page < 0 || page >= this.pages.size() ? null : this.pages.get(page);
+    }
+
+    /**
+     * @param slot The slot.
+     * @param page The page number.
+     * @return The data that was placed first in the slot of the page, or null if the slot is empty.
+     */
+    @Nullable IntelligentItemData get(int slot, int page) {
+        Page indexed = page(page);
+        return indexed == null || !isSlot(slot) ? null : indexed.slots[slot];
+    }
+
+    /**
+     * @param slot The slot.
+     * @return The data that was placed first in the slot and is preset on all pages, or null if there is none.
+     */
+    @Nullable IntelligentItemData preset(int slot) {
+        return isSlot(slot) && this.presetHeads[slot] != -1 ? this.entries[this.presetHeads[slot]] : null;
+    }
+
+    /**
+     * @param page The page number.
+     * @return All data of the page in insertion order, including data without a slot and data that shares a slot.
+     */
+    @NotNull List<IntelligentItemData> dataByPage(int page) {
+        List<IntelligentItemData> result = new ArrayList<>();
+        for (int i = 0; i < this.length; i++) {
+            IntelligentItemData itemData = this.entries[i];
+            if (itemData == null || itemData.getPage() != page) continue;
+            result.add(itemData);
+        }
+        return result;
+    }
+
+    /**
+     * @param page The page number.
+     * @return The amount of slots that are occupied on the page.
+     */
+    int sizeOfPage(int page) {
+        Page indexed = page(page);
+        return indexed == null ? 0 : indexed.size;
+    }
+
+    /**
+     * Returns a bitmask of the occupied slots for every page. Pages after the last entry are empty. Items that are
+     * preset on all pages are not included.
+     *
+     * @return The bitmasks, indexed by page.
+     */
+    long @NotNull [] occupiedSlots() {
+        int count = this.pages.size();
+        while (count > 0 && (this.pages.get(count - 1) == null || this.pages.get(count - 1).mask == 0))
+            count--;
+
+        long[] masks = new long[count];
+        for (int i = 0; i < count; i++) {
+            Page indexed = this.pages.get(i);
+            if (indexed == null) continue;
+            masks[i] = indexed.mask;
+        }
+        return masks;
+    }
+
+    /**
+     * @param itemData The data to add.
+     */
+    void add(@NotNull IntelligentItemData itemData) {
+        if (this.length == this.entries.length) {
+            compact();
+            if (this.length == this.entries.length)
+                grow();
+        }
+
+        this.entries[this.length] = itemData;
+        this.size++;
+        index(this.length++);
+    }
+
+    /**
+     * Removes all data from the given slot of the given page by walking the chain of the slot.
+     *
+     * @param slot The slot.
+     * @param page The page number.
+     */
+    void remove(int slot, int page) {
+        Page indexed = page(page);
+        if (indexed == null || !isSlot(slot) || indexed.heads[slot] == -1)
+            return;
+
+        for (int position = indexed.heads[slot]; position != -1; position = this.next[position]) {
+            if (this.entries[position].getOriginalSlot() == -1)
+                this.unplaced--;
+
+            unlinkPreset(position, slot);
+            this.entries[position] = null;
+            this.size--;
+        }
+
+        indexed.heads[slot] = -1;
+        indexed.tails[slot] = -1;
+        indexed.slots[slot] = null;
+        indexed.mask &= ~(1L << slot);
+        indexed.size--;
+
+        int holes = this.length - this.size;
+        if (holes > MIN_CAPACITY && holes > this.size)
+            compact();
+    }
+
+    /**
+     * Replaces the data. If the view of this storage is passed, only the chains are rebuilt, e.g. because the
+     * pagination layout changed the page or slot of some data.
+     *
+     * @param inventoryData The new data.
+     */
+    void rebuild(@NotNull List<IntelligentItemData> inventoryData) {
+        if (inventoryData != this.data) {
+            IntelligentItemData[] replacement = inventoryData.toArray(new IntelligentItemData[0]);
+            int capacity = Math.max(MIN_CAPACITY, replacement.length);
+            this.entries = Arrays.copyOf(replacement, capacity);
+            this.next = new int[capacity];
+            this.presetPrevious = new int[capacity];
+            this.presetNext = new int[capacity];
+            this.length = replacement.length;
+            this.size = replacement.length;
+        }
+
+        reindex();
+    }
+
+    /**
+     * Closes the holes of removed entries. The order of the data is kept.
+     */
+    private void compact() {
+        if (this.length == this.size) return;
+        reindex();
+    }
+
+    private void reindex() {
+        int live = 0;
+        for (int i = 0; i < this.length; i++) {
+            IntelligentItemData itemData = this.entries[i];
+            if (itemData == null) continue;
+            this.entries[live++] = itemData;
+        }
+        Arrays.fill(this.entries, live, this.length, null);
+        this.length = live;
+
+        this.pages.clear();
+        Arrays.fill(this.presetHeads, -1);
+        Arrays.fill(this.presetTails, -1);
+        this.presetMask = 0;
+        this.unplaced = 0;
+
+        for (int i = 0; i < this.length; i++)
+            index(i);
+    }
+
+    private void grow() {
+        int capacity = this.entries.length * 2;
+        this.entries = Arrays.copyOf(this.entries, capacity);
+        this.next = Arrays.copyOf(this.next, capacity);
+        this.presetPrevious = Arrays.copyOf(this.presetPrevious, capacity);
+        this.presetNext = Arrays.copyOf(this.presetNext, capacity);
+    }
+
+    /**
+     * Links the data at the position into the chains of its page and slot. If a slot is already occupied, the data
+     * that was added first stays visible, just like a search through the data would find it first.
+     */
+    private void index(int position) {
+        IntelligentItemData itemData = this.entries[position];
+        this.next[position] = -1;
+        this.presetPrevious[position] = -1;
+        this.presetNext[position] = -1;
+
+        if (itemData.getOriginalSlot() == -1)
+            this.unplaced++;
+
+        int slot = itemData.getModifiedSlot();
+        int page = itemData.getPage();
+        if (!isSlot(slot) || page < 0) return;
+
+        if (itemData.isPresetOnAllPages()) {
+            int tail = this.presetTails[slot];
+            if (tail == -1) {
+                this.presetHeads[slot] = position;
+                this.presetMask |= 1L << slot;
+            } else {
+                this.presetNext[tail] = position;
+                this.presetPrevious[position] = tail;
+            }
+            this.presetTails[slot] = position;
+        }
+
+        while (this.pages.size() <= page)
+            this.pages.add(null);
+
+        Page indexed = this.pages.get(page);
+        if (indexed == null) {
+            indexed = new Page();
+            this.pages.set(page, indexed);
+        }
+
+        int tail = indexed.tails[slot];
+        indexed.tails[slot] = position;
+        if (tail != -1) {
+            this.next[tail] = position;
+            return;
+        }
+
+        indexed.heads[slot] = position;
+        indexed.slots[slot] = itemData;
+        indexed.mask |= 1L << slot;
+        indexed.size++;
+    }
+
+    /**
+     * Removes the data at the position from the preset chain of the slot, if it is linked into it.
+     */
+    private void unlinkPreset(int position, int slot) {
+        int previous = this.presetPrevious[position];
+        int next = this.presetNext[position];
+        if (previous == -1 && this.presetHeads[slot] != position) return;
+
+        if (previous == -1)
+            this.presetHeads[slot] = next;
+        else
+            this.presetNext[previous] = next;
+
+        if (next == -1)
+            this.presetTails[slot] = previous;
+        else
+            this.presetPrevious[next] = previous;
+
+        if (this.presetHeads[slot] == -1)
+            this.presetMask &= ~(1L << slot);
+    }
+
+    private static boolean isSlot(int slot) {
+        return slot >= 0 && slot < SLOTS;
+    }
+
+    /**
+     * Read-only view of the data in insertion order. Reading never changes the storage, holes of removed entries are
+     * skipped instead.
+     */
+    private final class View extends AbstractList<IntelligentItemData> {
+
+        @Override
+        public IntelligentItemData get(int index) {
+            Objects.checkIndex(index, PaginationStorage.this.size);
+            if (PaginationStorage.this.length == PaginationStorage.this.size)
+                return PaginationStorage.this.entries[index];
+
+            int live = 0;
+            for (int position = 0; ; position++) {
+                IntelligentItemData itemData = PaginationStorage.this.entries[position];
+                if (itemData == null) continue;
+                if (live++ == index) return itemData;
+            }
+        }
+
+        @Override
+        public int size() {
+            return PaginationStorage.this.size;
+        }
+
+        @Override
+        public @NotNull Iterator<IntelligentItemData> iterator() {
+            return new Iterator<>() {
+                int position = skipHoles(0);
+
+                @Override
+                public boolean hasNext() {
+                    return this.position < PaginationStorage.this.length;
+                }
+
+                @Override
+                public IntelligentItemData next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    IntelligentItemData itemData = PaginationStorage.this.entries[this.position];
+                    this.position = skipHoles(this.position + 1);
+                    return itemData;
+                }
+            };
+        }
+
+        private int skipHoles(int position) {
+            while (position < PaginationStorage.this.length && PaginationStorage.this.entries[position] == null)
+                position++;
+            return position;
+        }
+    }
+
+    /**
+     * The occupied slots of a single page. The mask has a bit set for every occupied slot. The heads and tails are the
+     * positions of the first and last data of a slot, or -1.
+     */
+    private static final class Page {
+        private final IntelligentItemData[] slots = new IntelligentItemData[SLOTS];
+        private final int[] heads = new int[SLOTS];
+        private final int[] tails = new int[SLOTS];
+        private long mask;
+        private int size;
+
+        private Page() {
+            Arrays.fill(this.heads, -1);
+            Arrays.fill(this.tails, -1);
+        }
+    }
+}
@@ -36,9 +36,11 @@ import io.github.rysefoxx.inventory.plugin.events.*;
 import io.github.rysefoxx.inventory.plugin.other.EventCreator;
 import io.github.rysefoxx.inventory.plugin.other.Page;
 import io.github.rysefoxx.inventory.plugin.pattern.SlotIteratorPattern;
+import io.github.rysefoxx.inventory.plugin.util.PlaceHolderConstants;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import io.github.rysefoxx.inventory.plugin.util.TitleUpdater;
+import io.github.rysefoxx.inventory.plugin.util.Utils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -59,16 +61,16 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import space.arim.morepaperlib.scheduling.ScheduledTask;
 
 import javax.annotation.Nonnegative;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -81,18 +83,11 @@ public class RyseInventory {
 
     private RyseInventory originalInventory;
 
-    private PaginationData paginationCache;
-
     private InventoryManager manager;
     @Getter
     private InventoryProvider provider;
-    @Getter
-    private @Nullable Inventory inventory;
     private SlideAnimation slideAnimator;
     @Getter(AccessLevel.PROTECTED)
-    private AnvilGUI.Builder anvilGUIBuilder;
-    private AnvilGUI anvilGUI;
-    @Getter(AccessLevel.PROTECTED)
     private transient Plugin plugin;
 
     @Getter
@@ -107,8 +102,13 @@ public class RyseInventory {
     private int closeAfter = -1;
     private int loadDelay = -1;
     private int loadTitle = -1;
+    @Getter(AccessLevel.PROTECTED)
+    private int clickLimit = -1;
+    @Getter(AccessLevel.PROTECTED)
+    private int clickLimitPeriod = -1;
+    @Getter(AccessLevel.PROTECTED)
+    private int titleCooldown = -1;
 
-    private boolean backward;
     private boolean ignoreManualItems;
     private boolean clearAndSafe;
     private boolean permanentCache;
@@ -119,6 +119,10 @@ public class RyseInventory {
     @Getter(AccessLevel.PROTECTED)
     private boolean updateTask = true;
 
+    @Getter
+    @NotNull
+    private UpdatePriority updatePriority = UpdatePriority.NORMAL;
+
     @NotNull
     private Component titleHolder = Component.text("Loading", NamedTextColor.YELLOW).decorate(TextDecoration.ITALIC)
             .append(Component.text("...", NamedTextColor.DARK_GRAY));
@@ -130,17 +134,14 @@ public class RyseInventory {
     private List<DisabledInventoryClick> ignoreClickEvent = new ArrayList<>();
     private List<CloseReason> closeReasons = new ArrayList<>();
     private List<EventCreator<? extends Event>> events = new CopyOnWriteArrayList<>();
-    private List<IntelligentItemNameAnimator> itemAnimator = new CopyOnWriteArrayList<>();
-    private List<IntelligentMaterialAnimator> materialAnimator = new CopyOnWriteArrayList<>();
-    private List<IntelligentTitleAnimator> titleAnimator = new CopyOnWriteArrayList<>();
-    private List<IntelligentItemLoreAnimator> loreAnimator = new CopyOnWriteArrayList<>();
     private List<Action> enabledActions = new ArrayList<>();
     private List<DisabledEvents> disabledEvents = new ArrayList<>();
+    private transient InventoryPolicy policy;
+    private transient EventHandlerTable eventHandlers;
     private List<Page> pages = new CopyOnWriteArrayList<>();
-    protected final List<Player> delayed = new ArrayList<>();
 
-    private final HashMap<UUID, ItemStack[]> playerInventory = new HashMap<>();
     private HashMap<Integer, Consumer<InventoryClickEvent>> ignoredSlotsWithEvents = new HashMap<>();
+    private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
 
     /**
      * Copy constructor
@@ -150,10 +151,8 @@ public class RyseInventory {
     private RyseInventory(@NotNull RyseInventory inventory) {
         this.manager = inventory.manager;
         this.provider = inventory.provider;
-        this.anvilGUIBuilder = inventory.anvilGUIBuilder;
         this.permanentCache = inventory.permanentCache;
         this.title = inventory.title;
-        this.inventory = inventory.inventory;
         this.clearAndSafe = inventory.clearAndSafe;
         this.slideAnimator = inventory.slideAnimator;
         this.identifier = inventory.identifier;
@@ -165,10 +164,13 @@ public class RyseInventory {
         this.closeAfter = inventory.closeAfter;
         this.loadDelay = inventory.loadDelay;
         this.loadTitle = inventory.loadTitle;
+        this.clickLimit = inventory.clickLimit;
+        this.clickLimitPeriod = inventory.clickLimitPeriod;
+        this.titleCooldown = inventory.titleCooldown;
         this.closeAble = inventory.closeAble;
         this.updateTask = inventory.updateTask;
+        this.updatePriority = inventory.updatePriority;
         this.transferData = inventory.transferData;
-        this.backward = inventory.backward;
         this.titleHolder = inventory.titleHolder;
         this.inventoryOpenerType = inventory.inventoryOpenerType;
         this.ignoredSlotsWithEvents = inventory.ignoredSlotsWithEvents;
@@ -176,19 +178,15 @@ public class RyseInventory {
         this.ignoreManualItems = inventory.ignoreManualItems;
         this.enabledActions.addAll(inventory.enabledActions);
         this.disabledEvents.addAll(inventory.disabledEvents);
-        this.delayed.addAll(inventory.delayed);
         this.options.addAll(inventory.options);
         this.events.addAll(inventory.events);
         this.ignoreClickEvent.addAll(inventory.ignoreClickEvent);
         this.closeReasons.addAll(inventory.closeReasons);
-        this.itemAnimator.addAll(inventory.itemAnimator);
-        this.materialAnimator.addAll(inventory.materialAnimator);
-        this.titleAnimator.addAll(inventory.titleAnimator);
-        this.loreAnimator.addAll(inventory.loreAnimator);
-        this.playerInventory.putAll(inventory.playerInventory);
         this.pages.addAll(inventory.pages);
         this.keepOriginal = inventory.keepOriginal;
         this.originalInventory = inventory;
+        this.policy = inventory.policy;
+        this.eventHandlers = inventory.eventHandlers;
 
     }
 
@@ -215,19 +213,17 @@ public class RyseInventory {
         inventory.closeAfter = (int) data.get("close-after");
         inventory.loadDelay = (int) data.get("load-delay");
         inventory.loadTitle = (int) data.get("load-title");
+        inventory.clickLimit = (int) data.getOrDefault("click-limit", -1);
+        inventory.clickLimitPeriod = (int) data.getOrDefault("click-limit-period", -1);
+        inventory.titleCooldown = (int) data.getOrDefault("title-cooldown", -1);
         inventory.closeAble = (boolean) data.get("close-able");
         inventory.transferData = (boolean) data.get("transfer-data");
-        inventory.backward = (boolean) data.get("backward");
         inventory.titleHolder = SERIALIZER.deserialize((String) data.get("title-holder"));
         inventory.inventoryOpenerType = InventoryOpenerType.valueOf((String) data.get("inventory-opener-type"));
         inventory.options = (List<InventoryOptions>) data.get("options");
         inventory.events = (List<EventCreator<? extends Event>>) data.get("events");
         inventory.ignoreClickEvent = (List<DisabledInventoryClick>) data.get("ignore-click-event");
         inventory.closeReasons = (List<CloseReason>) data.get("close-reasons");
-        inventory.itemAnimator = (List<IntelligentItemNameAnimator>) data.get("item-animator");
-        inventory.materialAnimator = (List<IntelligentMaterialAnimator>) data.get("material-animator");
-        inventory.titleAnimator = (List<IntelligentTitleAnimator>) data.get("title-animator");
-        inventory.loreAnimator = (List<IntelligentItemLoreAnimator>) data.get("lore-animator");
         inventory.ignoredSlotsWithEvents = (HashMap<Integer, Consumer<InventoryClickEvent>>) data.get("ignored-slots");
         inventory.disabledEvents = (List<DisabledEvents>) data.get("disabled-events");
         inventory.enabledActions = (List<Action>) data.get("enabled-actions");
@@ -268,19 +264,17 @@ public class RyseInventory {
         map.put("close-after", this.closeAfter);
         map.put("load-delay", this.loadDelay);
         map.put("load-title", this.loadTitle);
+        map.put("click-limit", this.clickLimit);
+        map.put("click-limit-period", this.clickLimitPeriod);
+        map.put("title-cooldown", this.titleCooldown);
         map.put("close-able", this.closeAble);
         map.put("transfer-data", this.transferData);
-        map.put("backward", this.backward);
         map.put("title-holder", SERIALIZER.serialize(this.titleHolder));
         map.put("inventory-opener-type", this.inventoryOpenerType.toString());
         map.put("options", this.options);
         map.put("events", this.events);
         map.put("ignore-click-event", this.ignoreClickEvent);
         map.put("close-reasons", this.closeReasons);
-        map.put("item-animator", this.itemAnimator);
-        map.put("material-animator", this.materialAnimator);
-        map.put("title-animator", this.titleAnimator);
-        map.put("lore-animator", this.loreAnimator);
         map.put("provider", this.provider);
         map.put("identifier", this.identifier);
         map.put("clear-and-safe", this.clearAndSafe);
@@ -322,7 +316,8 @@ public class RyseInventory {
      * Only works if the animation has also been assigned an identifier.
      */
     public @NotNull Optional<IntelligentItemLoreAnimator> getLoreAnimation(@NotNull Object identifier) {
-        return this.loreAnimator.stream()
+        return viewerSessions()
+                .flatMap(session -> session.getLoreAnimators().stream())
                 .filter(animator -> Objects.equals(animator.getIdentifier(), identifier))
                 .findFirst();
     }
@@ -336,7 +331,8 @@ public class RyseInventory {
      * Only works if the animation has also been assigned an identifier.
      */
     public @NotNull Optional<IntelligentItemNameAnimator> getNameAnimation(@NotNull Object identifier) {
-        return this.itemAnimator.stream()
+        return viewerSessions()
+                .flatMap(session -> session.getItemAnimators().stream())
                 .filter(animator -> Objects.equals(animator.getIdentifier(), identifier))
                 .findFirst();
     }
@@ -350,7 +346,8 @@ public class RyseInventory {
      * Only works if the animation has also been assigned an identifier.
      */
     public @NotNull Optional<IntelligentTitleAnimator> getTitleAnimation(@NotNull Object identifier) {
-        return this.titleAnimator.stream()
+        return viewerSessions()
+                .flatMap(session -> session.getTitleAnimators().stream())
                 .filter(animator -> Objects.equals(animator.getIdentifier(), identifier))
                 .findFirst();
     }
@@ -364,7 +361,8 @@ public class RyseInventory {
      * Only works if the animation has also been assigned an identifier.
      */
     public @NotNull Optional<IntelligentMaterialAnimator> getMaterialAnimator(@NotNull Object identifier) {
-        return this.materialAnimator.stream()
+        return viewerSessions()
+                .flatMap(session -> session.getMaterialAnimators().stream())
                 .filter(animator -> Objects.equals(animator.getIdentifier(), identifier))
                 .findFirst();
     }
@@ -400,8 +398,7 @@ public class RyseInventory {
 
         if (preCloseEvent.isCancelled()) return;
 
-        this.paginationCache = null;
-        removeActiveAnimations();
+        removeActiveAnimations(player.getUniqueId());
         clearData(player);
         player.closeInventory();
 
@@ -415,12 +412,25 @@ public class RyseInventory {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers() {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> this.manager.getInventory(player.getUniqueId()).ifPresent(savedInventory -> {
-            if (!this.equals(savedInventory)) return;
-            players.add(player.getUniqueId());
-        }));
-        return players;
+        return new ArrayList<>(this.viewers);
+    }
+
+    /**
+     * Adds the player to the viewers of this inventory.
+     *
+     * @param uuid The UUID of the player who opened the inventory.
+     */
+    protected void addViewer(@NotNull UUID uuid) {
+        this.viewers.add(uuid);
+    }
+
+    /**
+     * Removes the player from the viewers of this inventory.
+     *
+     * @param uuid The UUID of the player who closed the inventory.
+     */
+    protected void removeViewer(@NotNull UUID uuid) {
+        this.viewers.remove(uuid);
     }
 
     /**
@@ -623,6 +633,46 @@ public class RyseInventory {
         open(player, 1, keys, values);
     }
 
+    /**
+     * Switches the player to another page without reopening the inventory.
+     * <br>
+     * Only the slots whose item differs between the displayed page and the new page are rewritten. No open events
+     * are called and {@link InventoryProvider#init(Player, InventoryContents)} is not called again, so items which
+     * depend on the page number have to be updated by yourself.
+     * <br>
+     * If the player is not viewing this inventory or the new page has a different size, the inventory is opened on
+     * the page as with {@link #open(Player, int)}.
+     *
+     * @param player The player whose page should be switched.
+     * @param page   Which page should be displayed?
+     * @throws IllegalArgumentException if the page does not exist.
+     */
+    public void switchPage(@NotNull Player player, @Nonnegative int page) throws IllegalArgumentException {
+        switchPage(player, page, null);
+    }
+
+    /**
+     * Switches the player to another page without reopening the inventory and updates the title.
+     * <br>
+     * See also: {@link #switchPage(Player, int)}
+     *
+     * @param player The player whose page should be switched.
+     * @param page   Which page should be displayed?
+     * @param title  The new title, or null to keep the current title.
+     * @throws IllegalArgumentException if the page does not exist.
+     */
+    public void switchPage(@NotNull Player player, @Nonnegative int page, @Nullable Component title) throws IllegalArgumentException {
+        manager.getMorePaperLib().scheduling().globalRegionalScheduler().run(() -> {
+            if (!switchPageInPlace(player, page - 1)) {
+                open(player, page);
+                return;
+            }
+
+            if (title != null)
+                updateTitle(player, title);
+        });
+    }
+
     /**
      * Allows the inventory to be closed even after it has been opened.
      */
@@ -638,13 +688,14 @@ public class RyseInventory {
     }
 
     private void initInventory(@NotNull Player player, @Nonnegative int page, @Nullable String[] keys, @Nullable Object[] values) {
-        if (!manager.canOpen(player.getUniqueId())) {
+        if (!manager.tryOpen(player.getUniqueId())) {
             int finalPage = page;
             manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> initInventory(player, finalPage, keys, values), 2L);
             return;
         }
 
-        this.manager.setLastOpen(player.getUniqueId());
+        // Inventories built before the manager was invoked are registered here, before any of their events is called.
+        manager.registerHandlers(this);
 
         RyseInventoryPreOpenEvent event = new RyseInventoryPreOpenEvent(player, this);
         Bukkit.getPluginManager().callEvent(event);
@@ -658,13 +709,14 @@ public class RyseInventory {
         }
 
         finishSavedInventory(player);
-        removeActiveAnimations();
+        removeActiveAnimations(player.getUniqueId());
 
-        clearInventoryWhenNeeded(player);
+        ViewerSession session = openSession(player);
+        clearInventoryWhenNeeded(player, session);
 
         page--;
 
-        this.inventory = setupInventory(page);
+        session.setInventory(setupInventory(page));
 
         InventoryContents contents = new InventoryContents(player, this, this.plugin);
         Optional<InventoryContents> optional = this.manager.getContents(player.getUniqueId());
@@ -672,8 +724,8 @@ public class RyseInventory {
         contents.pagination().setPage(page);
 
         transferData(optional.orElse(null), contents, keys, values);
-        setupData(player, contents);
-        initProvider(player, contents);
+        setupData(session, contents);
+        initProvider(player, session, contents);
 
         if (optional.isPresent() && optional.get().equals(contents)) return;
 
@@ -683,7 +735,7 @@ public class RyseInventory {
 
         this.manager.stopUpdate(player.getUniqueId());
 
-        loadByPage(contents);
+        loadByPage(player, contents);
 
         if (page > pagination.lastPage()) {
             close(player);
@@ -693,7 +745,7 @@ public class RyseInventory {
         loadDelay(page, pagination, player);
         closeInventoryWhenEnabled(player);
 
-        finalizeInventoryAndOpen(player, contents);
+        finalizeInventoryAndOpen(player, session, contents);
     }
 
     /**
@@ -732,10 +784,23 @@ public class RyseInventory {
      * @param event The event what you want to get
      * @return null if there is no custom event matching the event class
      */
+    @SuppressWarnings("unchecked")
     public @Nullable EventCreator<? extends Event> getEvent(@NotNull Class<? extends Event> event) {
-        return this.events.stream().filter(eventOne -> event == eventOne.clazz())
-                .findFirst()
-                .orElse(null);
+        return (EventCreator<? extends Event>) getEventHandlers().first(event);
+    }
+
+    /**
+     * Returns the custom events grouped by event class. The table is created when the inventory is built.
+     *
+     * @return The compiled event handlers of the inventory.
+     */
+    @ApiStatus.Internal
+    public @NotNull EventHandlerTable getEventHandlers() {
+        EventHandlerTable eventHandlers = this.eventHandlers;
+        if (eventHandlers == null)
+            this.eventHandlers = eventHandlers = EventHandlerTable.compile(this.events);
+
+        return eventHandlers;
     }
 
     /**
@@ -757,6 +822,39 @@ public class RyseInventory {
      * @author <a href="https://www.spigotmc.org/threads/change-inventory-title-reflection-1-8-1-18.489966/">Original code (Slightly Modified)</a>
      */
     public void updateTitle(@NotNull Player player, @NotNull Component newTitle) {
+        this.manager.forgetTitle(player.getUniqueId());
+        sendTitle(player, newTitle);
+    }
+
+    /**
+     * Shows a frame of a title animation. The frame is skipped if the player already sees it or if it follows the
+     * previous title faster than the title cooldown allows.
+     *
+     * @param player The player whose title is animated.
+     * @param frame  The title of the frame.
+     * @param force  If true, the title cooldown is ignored, e.g. for the last frame of an animation.
+     * @see Builder#titleCooldown(int, TimeSetting)
+     */
+    @ApiStatus.Internal
+    public void updateTitleFrame(@NotNull Player player, @NotNull String frame, boolean force) {
+        if (!this.manager.tryTitle(player.getUniqueId(), this, frame, force)) return;
+
+        sendTitle(player, Component.text(frame));
+    }
+
+    /**
+     * Fires the {@link RyseInventoryTitleChangeEvent} and changes the title. The event is only created if a plugin
+     * listens to it.
+     *
+     * @param player   The Player
+     * @param newTitle The new title
+     */
+    private void sendTitle(@NotNull Player player, @NotNull Component newTitle) {
+        if (RyseInventoryTitleChangeEvent.getHandlerList().getRegisteredListeners().length == 0) {
+            TitleUpdater.updateInventory(player, SERIALIZER.serialize(newTitle));
+            return;
+        }
+
         RyseInventoryTitleChangeEvent event = new RyseInventoryTitleChangeEvent(player, this.title, newTitle);
         Bukkit.getPluginManager().callEvent(event);
 
@@ -907,21 +1005,48 @@ public class RyseInventory {
     }
 
     /**
-     * If the slideAnimator is not null, then for each task in the slideAnimator, if the task is queued, then increment the
-     * counter.
+     * Counts the slide animation tasks of all players who are viewing this inventory, which are still running.
      *
      * @return The number of active slide animator tasks.
      */
     @Nonnegative
     public int activeSlideAnimatorTasks() {
         if (this.slideAnimator == null) return 0;
-        AtomicInteger counter = new AtomicInteger();
 
-        this.slideAnimator.getTasks().forEach(scheduledTask -> {
-            if (scheduledTask.getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-            counter.getAndIncrement();
-        });
-        return counter.get();
+        return viewerSessions()
+                .mapToInt(ViewerSession::activeSlideTasks)
+                .sum();
+    }
+
+    /**
+     * Counts the slide animation tasks of the player, which are still running.
+     *
+     * @param uuid The UUID of the player.
+     * @return The number of active slide animator tasks.
+     */
+    @Nonnegative
+    public int activeSlideAnimatorTasks(@NotNull UUID uuid) {
+        if (this.slideAnimator == null) return 0;
+
+        ViewerSession session = session(uuid);
+        if (session == null) return 0;
+
+        return session.activeSlideTasks();
+    }
+
+    /**
+     * Returns the options, close reasons, ignored clicks, enabled actions and disabled events as compiled policy. The
+     * policy is created when the inventory is built.
+     *
+     * @return The compiled policy of the inventory.
+     */
+    @ApiStatus.Internal
+    public @NotNull InventoryPolicy getPolicy() {
+        InventoryPolicy policy = this.policy;
+        if (policy == null)
+            this.policy = policy = InventoryPolicy.compile(this);
+
+        return policy;
     }
 
     /**
@@ -994,17 +1119,89 @@ public class RyseInventory {
     }
 
     /**
-     * If the privateInventory map contains the UUID, return the inventory associated with it
+     * Every player who views this inventory has an own Bukkit inventory, so this returns the inventory of the first
+     * viewer that is found.
+     *
+     * @return The inventory of a viewer or null if nobody is viewing this inventory.
+     * @deprecated Use {@link #inventoryBasedOnOption(UUID)} to get the inventory of a certain player.
+     */
+    @Deprecated
+    public @Nullable Inventory getInventory() {
+        return viewerSessions()
+                .map(ViewerSession::getInventory)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * If the player is viewing this inventory, return the inventory of his session.
      *
      * @param uuid The UUID of the player you want to get the inventory of.
      * @return An optional of the inventory.
      */
     @ApiStatus.Internal
     public @NotNull Optional<Inventory> inventoryBasedOnOption(@NotNull UUID uuid) {
-        if (this.anvilGUI != null)
-            return Optional.of(this.anvilGUI.getInventory());
+        ViewerSession session = session(uuid);
+        if (session == null)
+            return Optional.empty();
+
+        return Optional.ofNullable(session.activeInventory());
+    }
 
-        return Optional.ofNullable(this.inventory);
+    /**
+     * If the player is viewing this inventory, the item is written into the slot of his inventory. During a provider
+     * update or an animation frame the item is queued and written at the end of the tick, so only the last item of a
+     * slot is sent.
+     *
+     * @param uuid      The UUID of the player.
+     * @param slot      The slot of the item.
+     * @param itemStack The item or null to clear the slot.
+     * @return true if the player is viewing this inventory.
+     */
+    @ApiStatus.Internal
+    public boolean queueSlotUpdate(@NotNull UUID uuid, @Nonnegative int slot, @Nullable ItemStack itemStack) {
+        ViewerSession session = session(uuid);
+        if (session == null || session.activeInventory() == null)
+            return false;
+
+        this.manager.queueSlotUpdate(session, slot, itemStack);
+        return true;
+    }
+
+    /**
+     * Returns the session of the player if the player is viewing this inventory.
+     *
+     * @param uuid The UUID of the player.
+     * @return The session or null if the player is not viewing this inventory.
+     */
+    private @Nullable ViewerSession session(@NotNull UUID uuid) {
+        return this.manager.getSession(uuid)
+                .filter(session -> session.getTemplate() == this)
+                .orElse(null);
+    }
+
+    /**
+     * @return The sessions of all players who are viewing this inventory.
+     */
+    private @NotNull Stream<ViewerSession> viewerSessions() {
+        return this.viewers.stream()
+                .map(this::session)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Binds the session of the player to this inventory. If the player is already viewing this inventory, the
+     * cached view state is kept.
+     *
+     * @param player The player who opens the inventory.
+     * @return The session of the player.
+     */
+    private @NotNull ViewerSession openSession(@NotNull Player player) {
+        ViewerSession session = this.manager.session(player.getUniqueId());
+        session.setLastOpen(System.currentTimeMillis());
+        session.bind(this);
+        return session;
     }
 
     /**
@@ -1032,35 +1229,42 @@ public class RyseInventory {
     public void load(@NotNull Pagination pagination,
                      @NotNull Player player,
                      @Nonnegative int page) {
+        ViewerSession session = session(player.getUniqueId());
+        Inventory inventory = session == null ? null : session.getInventory();
+        if (session != null)
+            session.discardSlotUpdates();
+
         pagination.getDataByPage(page)
                 .stream().filter(item -> item.getModifiedSlot() != -1)
-                .forEach(item -> placeItem(player, item.getModifiedSlot(), item.getItem()));
+                .forEach(item -> placeItem(player, inventory, item.getModifiedSlot(), item.getItem()));
     }
 
     /**
      * If the player can see the item, place it in the inventory.
      *
-     * @param player The player who is viewing the inventory.
-     * @param slot   The slot to place the item in.
-     * @param item   The item to place in the inventory.
+     * @param player    The player who is viewing the inventory.
+     * @param inventory The inventory of the player's session.
+     * @param slot      The slot to place the item in.
+     * @param item      The item to place in the inventory.
      */
     private void placeItem(@NotNull Player player,
+                           @Nullable Inventory inventory,
                            int slot,
                            @NotNull IntelligentItem item) {
         if (slot == -1) {
             throw new IllegalArgumentException("An attempt is made to place an item in slot -1. Check your pagination. If you could determine that it is not your error, report it on Github.");
         }
 
-        if (this.inventory != null)
-            if (slot >= this.inventory.getSize()) return;
+        if (inventory != null)
+            if (slot >= inventory.getSize()) return;
 
         if (!item.isCanSee()) {
             item.getError().cantSee(player, item);
             return;
         }
 
-        if (this.inventory != null)
-            this.inventory.setItem(slot, item.getItemStack());
+        if (inventory != null)
+            inventory.setItem(slot, item.getItemStack());
     }
 
     /**
@@ -1079,29 +1283,12 @@ public class RyseInventory {
     }
 
     /**
-     * It removes all the active animations
-     */
-    private void removeActiveAnimations() {
-        for (IntelligentItemNameAnimator intelligentItemNameAnimator : this.itemAnimator)
-            removeItemAnimator(intelligentItemNameAnimator);
-
-        for (IntelligentTitleAnimator intelligentTitleAnimator : this.titleAnimator)
-            removeTitleAnimator(intelligentTitleAnimator);
-
-        for (IntelligentItemLoreAnimator intelligentItemLoreAnimator : this.loreAnimator)
-            removeLoreAnimator(intelligentItemLoreAnimator);
-
-        for (IntelligentMaterialAnimator intelligentMaterialAnimator : this.materialAnimator)
-            removeMaterialAnimator(intelligentMaterialAnimator);
-
-        removeSlideAnimator();
-    }
-
-    /**
-     * This function sets the backward variable to true.
+     * It removes all the active animations of the player. Animations of other viewers keep running.
+     *
+     * @param uuid The UUID of the player.
      */
-    protected void setBackward() {
-        this.backward = true;
+    private void removeActiveAnimations(@NotNull UUID uuid) {
+        this.manager.getSession(uuid).ifPresent(ViewerSession::cancelAnimations);
     }
 
     /**
@@ -1113,13 +1300,18 @@ public class RyseInventory {
         Optional<RyseInventory> savedInventory = this.manager.getInventory(player.getUniqueId());
 
         savedInventory.ifPresent(mainInventory -> {
-            if (!this.backward)
+            boolean backward = this.manager.getSession(player.getUniqueId())
+                    .map(ViewerSession::consumeBackward)
+                    .orElse(false);
+            if (!backward)
                 this.manager.setLastInventory(player.getUniqueId(), mainInventory, this);
 
             this.manager.removeInventory(player.getUniqueId());
 
-            if (mainInventory.playerInventory.containsKey(player.getUniqueId())) {
-                player.getInventory().setContents(mainInventory.playerInventory.remove(player.getUniqueId()));
+            ViewerSession session = mainInventory.session(player.getUniqueId());
+            if (session != null && session.getPlayerInventory() != null) {
+                player.getInventory().setContents(session.getPlayerInventory());
+                session.setPlayerInventory(null);
             }
         });
     }
@@ -1127,15 +1319,83 @@ public class RyseInventory {
     /**
      * Save the player's inventory and clear it
      *
-     * @param player The player who's inventory is being cleared.
+     * @param player  The player who's inventory is being cleared.
+     * @param session The session in which the inventory is saved.
      */
-    private void clearInventoryWhenNeeded(@NotNull Player player) {
+    private void clearInventoryWhenNeeded(@NotNull Player player, @NotNull ViewerSession session) {
         if (!this.clearAndSafe) return;
 
-        this.playerInventory.put(player.getUniqueId(), player.getInventory().getContents());
+        session.setPlayerInventory(player.getInventory().getContents());
         player.getInventory().clear();
     }
 
+    /**
+     * Rewrites the slots of the opened inventory which differ between the displayed page and the given page.
+     *
+     * @param player The player whose page should be switched.
+     * @param page   The new page. First page is 0.
+     * @return false if the page can not be switched in place and the inventory has to be reopened.
+     * @throws IllegalArgumentException if the page does not exist.
+     */
+    private boolean switchPageInPlace(@NotNull Player player, int page) throws IllegalArgumentException {
+        ViewerSession session = session(player.getUniqueId());
+        if (session == null || session.getAnvilGUI() != null || session.getOpenedInventory() != this)
+            return false;
+
+        Inventory inventory = session.getInventory();
+        InventoryContents contents = session.getContents();
+        if (inventory == null || contents == null || this.inventoryOpenerType != InventoryOpenerType.CHEST)
+            return false;
+
+        if (this.size == -1 && !this.pages.isEmpty()) {
+            Optional<Page> rows = this.pages.stream().filter(data -> data.page() == page).findFirst();
+            if (rows.isEmpty() || rows.get().rows() * 9 != inventory.getSize())
+                return false;
+        }
+
+        Pagination pagination = contents.pagination();
+        if (page < 0 || page > pagination.lastPage())
+            throw new IllegalArgumentException("There is no " + page + " side. Last page is " + pagination.lastPage());
+
+        session.discardSlotUpdates();
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            IntelligentItem item = pagination.get(slot, page);
+            ItemStack itemStack = null;
+
+            if (item != null) {
+                if (item.isCanSee()) {
+                    itemStack = item.getItemStack();
+                } else {
+                    item.getError().cantSee(player, item);
+                }
+            }
+
+            if (isSameItem(inventory.getItem(slot), itemStack))
+                continue;
+
+            inventory.setItem(slot, itemStack);
+        }
+
+        pagination.setPage(page);
+        return true;
+    }
+
+    /**
+     * @param current The item which is displayed in a slot.
+     * @param target  The item which should be displayed in the slot.
+     * @return true if the slot does not need to be rewritten.
+     */
+    @Contract(pure = true)
+    private boolean isSameItem(@Nullable ItemStack current, @Nullable ItemStack target) {
+        boolean currentEmpty = current == null || current.getType().isAir();
+        boolean targetEmpty = target == null || target.getType().isAir();
+
+        if (currentEmpty || targetEmpty)
+            return currentEmpty == targetEmpty;
+
+        return current.equals(target);
+    }
+
     /**
      * It creates an inventory with the title of the menu and the size of the menu
      *
@@ -1159,7 +1419,7 @@ public class RyseInventory {
             return Bukkit.createInventory(null, finalSize, title);
         }
 
-        return inventory = Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
+        return Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
     }
 
     /**
@@ -1216,12 +1476,12 @@ public class RyseInventory {
     /**
      * It sets the contents of the inventory to the contents of the inventory that the player is viewing
      *
-     * @param player   The player who is viewing the inventory.
+     * @param session  The session of the player who is viewing the inventory.
      * @param contents The InventoryContents object that contains the inventory's contents.
      */
-    private void setupData(@NotNull Player player,
+    private void setupData(@NotNull ViewerSession session,
                            @NotNull InventoryContents contents) {
-        this.manager.setContents(player.getUniqueId(), contents);
+        session.setContents(contents);
     }
 
     /**
@@ -1232,12 +1492,14 @@ public class RyseInventory {
      * @param contents The InventoryContents object that you can use to set items in the inventory.
      */
     private void initProvider(@NotNull Player player,
+                              @NotNull ViewerSession session,
                               @NotNull InventoryContents contents) {
         if (this.inventoryOpenerType == InventoryOpenerType.ANVIL) {
-            this.anvilGUIBuilder = new AnvilGUI.Builder()
+            AnvilGUI.Builder anvilGUIBuilder = new AnvilGUI.Builder()
                     .plugin(this.plugin)
                     .title(buildTitle());
-            this.provider.anvil(player, this.anvilGUIBuilder);
+            session.setAnvilGUIBuilder(anvilGUIBuilder);
+            this.provider.anvil(player, anvilGUIBuilder);
             return;
         }
         if (this.slideAnimator == null) {
@@ -1284,21 +1546,17 @@ public class RyseInventory {
     /**
      * It opens the inventory
      *
-     * @param player The player who will open the inventory.
+     * @param player  The player who will open the inventory.
+     * @param session The session of the player.
      */
-    private void finalizeInventoryAndOpen(@NotNull Player player, @NotNull InventoryContents contents) {
-        if (this.keepOriginal)
-            this.originalInventory = this;
-
+    private void finalizeInventoryAndOpen(@NotNull Player player, @NotNull ViewerSession session, @NotNull InventoryContents contents) {
         manager.getMorePaperLib().scheduling().globalRegionalScheduler().run(() -> {
-            if (this.openDelay == -1 || this.delayed.contains(player)) {
+            if (this.openDelay == -1 || session.isDelayed()) {
                 openInventory(player, contents);
-            } else {
-                if (!this.delayed.contains(player)) {
-                    manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> openInventory(player, contents), this.openDelay);
-                    this.delayed.add(player);
-                }
+                return;
             }
+            manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> openInventory(player, contents), this.openDelay);
+            session.setDelayed(true);
         });
     }
 
@@ -1318,10 +1576,13 @@ public class RyseInventory {
      * @param player The player who will open the inventory.
      */
     private void openInventory(@NotNull Player player, @NotNull InventoryContents contents) {
-        if (Objects.requireNonNull(inventory).getType() == InventoryType.ANVIL) {
-            this.anvilGUI = this.anvilGUIBuilder.open(player);
+        ViewerSession session = session(player.getUniqueId());
+        if (session == null || session.getInventory() == null) return;
+
+        if (session.getInventory().getType() == InventoryType.ANVIL) {
+            session.setAnvilGUI(Objects.requireNonNull(session.getAnvilGUIBuilder()).open(player));
         } else {
-            player.openInventory(inventory);
+            player.openInventory(session.getInventory());
         }
 
         this.manager.invokeScheduler(player, this);
@@ -1343,27 +1604,6 @@ public class RyseInventory {
         }
     }
 
-    /**
-     * Get the item in the given slot on the given page.
-     * <p>
-     * The first thing you'll notice is that the function is private. This is because it's only used internally by the
-     * class
-     *
-     * @param inventoryData The list of IntelligentItemData objects that are stored in the inventory.
-     * @param slot          The slot in the inventory that you want to get the item from.
-     * @param page          The page of the inventory.
-     * @return The item in the slot and page.
-     */
-    private @Nullable IntelligentItem get(@NotNull List<IntelligentItemData> inventoryData,
-                                          @Nonnegative int slot,
-                                          @Nonnegative int page) {
-        for (IntelligentItemData data : inventoryData) {
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
-        return null;
-    }
-
     /**
      * If the iterator type is horizontal, increment the slot by one. If the iterator type is vertical, increment the slot
      * by nine.
@@ -1396,13 +1636,14 @@ public class RyseInventory {
      * @param player The player who's inventory is being cleared.
      */
     public void clearData(@NotNull Player player) {
-        if (this.playerInventory.containsKey(player.getUniqueId())) {
-            ItemStack[] data = this.playerInventory.remove(player.getUniqueId());
+        ViewerSession session = session(player.getUniqueId());
+        if (session != null && session.getPlayerInventory() != null) {
+            ItemStack[] data = session.getPlayerInventory();
+            session.setPlayerInventory(null);
             /*Bukkit.getScheduler().runTaskLater(this.plugin, () -> player.getInventory().setContents(data), 2);*/
             manager.getMorePaperLib().scheduling().globalRegionalScheduler().runDelayed(() -> player.getInventory().setContents(data), 2L);
         }
 
-        this.delayed.remove(player);
         this.manager.removeInventoryFromPlayer(player.getUniqueId());
     }
 
@@ -1412,8 +1653,8 @@ public class RyseInventory {
      * @param animator The animator to add.
      */
     @ApiStatus.Internal
-    public void addItemAnimator(@NotNull IntelligentItemNameAnimator animator) {
-        this.itemAnimator.add(animator);
+    public void addItemAnimator(@NotNull UUID uuid, @NotNull IntelligentItemNameAnimator animator) {
+        this.manager.session(uuid).getItemAnimators().add(animator);
     }
 
     /**
@@ -1422,8 +1663,8 @@ public class RyseInventory {
      * @param animator The IntelligentMaterialAnimator to add.
      */
     @ApiStatus.Internal
-    public void addMaterialAnimator(@NotNull IntelligentMaterialAnimator animator) {
-        this.materialAnimator.add(animator);
+    public void addMaterialAnimator(@NotNull UUID uuid, @NotNull IntelligentMaterialAnimator animator) {
+        this.manager.session(uuid).getMaterialAnimators().add(animator);
     }
 
     /**
@@ -1433,11 +1674,9 @@ public class RyseInventory {
      * @param animator The IntelligentMaterialAnimator to remove.
      */
     @ApiStatus.Internal
-    public void removeMaterialAnimator(@NotNull IntelligentMaterialAnimator animator) {
-        this.materialAnimator.remove(animator);
-
-        if (animator.getTask().getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-        animator.getTask().cancel();
+    public void removeMaterialAnimator(@NotNull UUID uuid, @NotNull IntelligentMaterialAnimator animator) {
+        this.manager.getSession(uuid).ifPresent(session -> session.getMaterialAnimators().remove(animator));
+        animator.stop();
     }
 
     /**
@@ -1446,11 +1685,9 @@ public class RyseInventory {
      * @param animator The IntelligentItemNameAnimator to remove.
      */
     @ApiStatus.Internal
-    public void removeItemAnimator(@NotNull IntelligentItemNameAnimator animator) {
-        this.itemAnimator.remove(animator);
-
-        if (animator.getTask().getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-        animator.getTask().cancel();
+    public void removeItemAnimator(@NotNull UUID uuid, @NotNull IntelligentItemNameAnimator animator) {
+        this.manager.getSession(uuid).ifPresent(session -> session.getItemAnimators().remove(animator));
+        animator.stop();
     }
 
     /**
@@ -1459,8 +1696,8 @@ public class RyseInventory {
      * @param animator The animator to add.
      */
     @ApiStatus.Internal
-    public void addTitleAnimator(@NotNull IntelligentTitleAnimator animator) {
-        this.titleAnimator.add(animator);
+    public void addTitleAnimator(@NotNull UUID uuid, @NotNull IntelligentTitleAnimator animator) {
+        this.manager.session(uuid).getTitleAnimators().add(animator);
     }
 
     /**
@@ -1469,11 +1706,9 @@ public class RyseInventory {
      * @param animator The IntelligentTitleAnimator to remove.
      */
     @ApiStatus.Internal
-    public void removeTitleAnimator(@NotNull IntelligentTitleAnimator animator) {
-        this.titleAnimator.remove(animator);
-
-        if (animator.getTask().getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-        animator.getTask().cancel();
+    public void removeTitleAnimator(@NotNull UUID uuid, @NotNull IntelligentTitleAnimator animator) {
+        this.manager.getSession(uuid).ifPresent(session -> session.getTitleAnimators().remove(animator));
+        animator.stop();
     }
 
     /**
@@ -1482,8 +1717,8 @@ public class RyseInventory {
      * @param animator The animator to add.
      */
     @ApiStatus.Internal
-    public void addLoreAnimator(@NotNull IntelligentItemLoreAnimator animator) {
-        this.loreAnimator.add(animator);
+    public void addLoreAnimator(@NotNull UUID uuid, @NotNull IntelligentItemLoreAnimator animator) {
+        this.manager.session(uuid).getLoreAnimators().add(animator);
     }
 
     /**
@@ -1492,36 +1727,30 @@ public class RyseInventory {
      * @param animator The animator to remove.
      */
     @ApiStatus.Internal
-    public void removeLoreAnimator(@NotNull IntelligentItemLoreAnimator animator) {
-        this.loreAnimator.remove(animator);
-
-        animator.getTasks().forEach(scheduledTask -> {
-            if (scheduledTask.getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-            scheduledTask.cancel();
-        });
+    public void removeLoreAnimator(@NotNull UUID uuid, @NotNull IntelligentItemLoreAnimator animator) {
+        this.manager.getSession(uuid).ifPresent(session -> session.getLoreAnimators().remove(animator));
+        animator.stop();
     }
 
     /**
-     * If the slideAnimator is null, return. If the slideAnimator is not null, get all the tasks in the slideAnimator and
-     * for each task, if the task is queued, cancel it
+     * Adds a task of the slide animation to the running animations of the player.
+     *
+     * @param uuid The UUID of the player.
+     * @param task The task of the slide animation.
      */
-    protected void removeSlideAnimator() {
-        if (this.slideAnimator == null) return;
-
-        this.slideAnimator.getTasks().forEach(scheduledTask -> {
-            if (scheduledTask.getExecutionState() != ScheduledTask.ExecutionState.IDLE) return;
-            scheduledTask.cancel();
-        });
-        this.slideAnimator.clearTasks();
+    @ApiStatus.Internal
+    public void addSlideTask(@NotNull UUID uuid, @NotNull AnimationEngine.AnimationTask task) {
+        this.manager.session(uuid).getSlideTasks().add(task);
     }
 
     /**
      * It takes a list of items, and places them in a paginated inventory
      *
+     * @param player   The player who is viewing the inventory.
      * @param contents The InventoryContents object that contains all the information about the inventory.
      */
     @ApiStatus.Internal
-    public void loadByPage(@NotNull InventoryContents contents) {
+    public void loadByPage(@NotNull Player player, @NotNull InventoryContents contents) {
         Pagination pagination = contents.pagination();
         SlotIterator iterator = contents.iterator();
         if (iterator == null) return;
@@ -1530,40 +1759,52 @@ public class RyseInventory {
         SlotIteratorPattern pattern = iterator.getPattern();
         checkIfInventoryTypeIsValid(pattern);
 
-        int itemsSet = 0;
-        int page = 0;
-        int startSlot = iterator.getSlot();
         List<IntelligentItemData> data = contents.pagination().getInventoryData();
 
         if (pattern != null) {
-            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents, itemsSet, page, startSlot);
+            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents);
+            pagination.setInventoryData(data);
             return;
         }
 
-        applyStandardPagination(contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), type);
-        contents.pagination().setInventoryData(data);
+        applyStandardPagination(session(player.getUniqueId()), contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), type);
+        pagination.setInventoryData(data);
     }
 
     /**
-     * It applies the standard pagination algorithm to the given data
+     * It applies the standard pagination algorithm to the given data. The slots are taken from an allocation plan that
+     * is cached in the session and reused as long as the iterator, the inventory size and the occupied slots are the
+     * same.
      *
+     * @param session    The session of the viewer in which the found slots are cached.
      * @param contents   The InventoryContents object that is passed to the Pagination object.
      * @param pagination The pagination object that is being used.
      * @param iterator   The slot iterator that is being used.
      * @param data       The list of items to be paginated.
      */
-    private void applyStandardPagination(@NotNull InventoryContents contents,
+    private void applyStandardPagination(@Nullable ViewerSession session,
+                                         @NotNull InventoryContents contents,
                                          @NotNull Pagination pagination,
                                          @NotNull SlotIterator iterator,
                                          @NotNull List<IntelligentItemData> data,
                                          @NotNull SlotIterator.SlotIteratorType type) {
 
-        PaginationData paginationData = this.paginationCache == null
-                ? findAllEmptySlots(contents, iterator, data.size(), type)
-                : this.paginationCache.newInstance();
+        int inventorySize = size(contents);
+        int itemsPerPage = pagination.getItemsPerPage();
+        long blackList = iterator.getBlackListMask();
+        long presetSlots = pagination.presetSlots();
+        long[] occupiedSlots = pagination.occupiedSlots();
 
-        if (this.paginationCache == null)
-            this.paginationCache = paginationData.newInstance();
+        PaginationData plan = session == null ? null : session.getPaginationCache();
+        if (plan == null || !plan.matches(iterator, inventorySize, itemsPerPage, blackList, presetSlots, occupiedSlots, data.size())) {
+            plan = new PaginationData(iterator, inventorySize, itemsPerPage, blackList, presetSlots, occupiedSlots, data.size());
+            findAllEmptySlots(plan, iterator, data.size(), type, inventorySize, itemsPerPage, blackList, presetSlots, occupiedSlots);
+
+            if (session != null)
+                session.setPaginationCache(plan);
+        }
+
+        PaginationData paginationData = plan.newInstance();
 
         for (IntelligentItemData itemData : data) {
             if (itemData.getModifiedSlot() != -1) continue;
@@ -1581,14 +1822,28 @@ public class RyseInventory {
         }
     }
 
-    private @NotNull PaginationData findAllEmptySlots(@NotNull InventoryContents contents,
-                                                      @NotNull SlotIterator iterator,
-                                                      @Nonnegative int requiredSlots,
-                                                      @NotNull SlotIterator.SlotIteratorType type) {
-        PaginationData data = new PaginationData();
-
-        int itemsPerPage = contents.pagination().getItemsPerPage();
-
+    /**
+     * Finds the slots in which the items are placed and adds them to the given plan.
+     *
+     * @param data          The plan to fill.
+     * @param iterator      The slot iterator that is being used.
+     * @param requiredSlots How many slots are needed.
+     * @param type          The type of the iterator.
+     * @param inventorySize The size of the inventory.
+     * @param itemsPerPage  How many items may be placed on a page.
+     * @param blackList     The blacklisted slots as bitmask.
+     * @param presetSlots   The slots that are occupied on all pages as bitmask.
+     * @param occupiedSlots The occupied slots as bitmask per page.
+     */
+    private void findAllEmptySlots(@NotNull PaginationData data,
+                                   @NotNull SlotIterator iterator,
+                                   @Nonnegative int requiredSlots,
+                                   @NotNull SlotIterator.SlotIteratorType type,
+                                   @Nonnegative int inventorySize,
+                                   @Nonnegative int itemsPerPage,
+                                   long blackList,
+                                   long presetSlots,
+                                   long @NotNull [] occupiedSlots) {
         int slot = iterator.getSlot();
         int page = 0;
         int slotsFound = 0;
@@ -1599,7 +1854,7 @@ public class RyseInventory {
             if (type == SlotIterator.SlotIteratorType.VERTICAL) {
                 int column = slot % 9;
 
-                if (slot >= size(contents)) {
+                if (slot >= inventorySize) {
                     if (column < 8 && (iterator.getSlot() + (toAddVertical + 1)) % 9 < 8) {
                         toAddVertical++;
                         slot = iterator.getSlot() + toAddVertical;
@@ -1611,14 +1866,14 @@ public class RyseInventory {
                     }
                 }
             } else {
-                if (slot >= size(contents)) {
+                if (slot >= inventorySize) {
                     slotsFound = 0;
                     page++;
                     slot = iterator.getSlot();
                 }
             }
 
-            if ((!iterator.isOverride() && contents.getWithinPage(slot, page).isPresent()) || iterator.getBlackListInternal().contains(slot)) {
+            if ((!iterator.isOverride() && isOccupied(slot, page, presetSlots, occupiedSlots)) || (blackList & (1L << slot)) != 0) {
                 if (type == SlotIterator.SlotIteratorType.HORIZONTAL)
                     slot++;
                 else
@@ -1647,82 +1902,55 @@ public class RyseInventory {
             else
                 slot += 9;
         }
+    }
 
-        return data;
+    /**
+     * Checks if the slot on the page is occupied.
+     *
+     * @param slot          The slot to check.
+     * @param page          The page to check.
+     * @param presetSlots   The slots that are occupied on all pages as bitmask.
+     * @param occupiedSlots The occupied slots as bitmask per page.
+     * @return true if there is an item in the slot.
+     * @throws IllegalArgumentException if the page is greater than the fixed page size.
+     */
+    private boolean isOccupied(@Nonnegative int slot,
+                               @Nonnegative int page,
+                               long presetSlots,
+                               long @NotNull [] occupiedSlots) throws IllegalArgumentException {
+        if (this.fixedPageSize != -1 && page > this.fixedPageSize - 1)
+            throw new IllegalArgumentException(Utils.replace(PlaceHolderConstants.INVALID_PAGE, "%temp%", this.fixedPageSize - 1));
+
+        long mask = page < occupiedSlots.length ? presetSlots | occupiedSlots[page] : presetSlots;
+        return (mask & (1L << slot)) != 0;
     }
 
     /**
-     * It applies the pattern to the inventory
+     * It applies the pattern to the inventory. The slots of a page are taken from the pattern, so every item is placed
+     * in a single pass.
      *
      * @param pagination The pagination object that contains the items per page, the page, and the inventory.
      * @param iterator   The iterator that will be used to iterate through the slots.
      * @param pattern    The pattern that will be applied to the inventory.
      * @param data       The list of IntelligentItemData objects that are being applied to the inventory.
-     * @param itemsSet   The amount of items that have been set on the current page.
-     * @param page       The page number of the inventory
-     * @param startSlot  The slot where the pagination starts.
+     * @param contents   The InventoryContents object that is used to get the size of the inventory.
      */
     private void applyPattern(@NotNull Pagination pagination,
                               @NotNull SlotIterator iterator,
                               @NotNull SlotIteratorPattern pattern,
                               @NotNull List<IntelligentItemData> data,
-                              @NotNull InventoryContents contents,
-                              @Nonnegative int itemsSet,
-                              @Nonnegative int page,
-                              int startSlot) {
-        int slot = startSlot;
-        if (startSlot == -1) {
-            startSlot = 0;
-            slot = startSlot;
-        }
-
-        List<String> lines = pattern.getLines();
-
-        do {
-            for (int j = 0; j < lines.size(); j++) {
-                String line = lines.get(j);
-                char[] charArray = line.toCharArray();
-                for (char lineChar : charArray) {
-                    if ((itemsSet >= pagination.getItemsPerPage() && iterator.getEndPosition() == -1)
-                            || slot > pagination.inventory().size(contents) - 1
-                            || (slot >= iterator.getEndPosition() && iterator.getEndPosition() != -1)) {
-                        itemsSet = 0;
-                        slot = startSlot;
-                        page++;
-                        j = -1;
-                        break;
-                    }
-
-                    if (lineChar != pattern.getAttachedChar()) {
-                        slot++;
-                        continue;
-                    }
-
-                    if (get(data, slot, page) != null && !iterator.isOverride()) {
-                        slot++;
-                        continue;
-                    }
-
-                    List<IntelligentItemData> dataList = data.stream()
-                            .filter(item -> item.getModifiedSlot() == -1)
-                            .toList();
-
-                    if (dataList.isEmpty())
-                        break;
-
-                    IntelligentItemData itemData = dataList.get(0);
-
-                    int index = data.indexOf(itemData);
+                              @NotNull InventoryContents contents) {
+        int startSlot = iterator.getSlot() == -1 ? 0 : iterator.getSlot();
 
-                    itemData.setPage(page);
-                    itemData.setModifiedSlot(slot);
+        int[] slots = pattern.slotsPerPage(startSlot, pagination.getItemsPerPage(), iterator.getEndPosition(), pagination.inventory().size(contents));
+        if (slots.length == 0)
+            return;
 
-                    data.set(index, itemData);
-                    itemsSet++;
-                    slot++;
-                }
-            }
-        } while (data.stream().anyMatch(item -> item.getModifiedSlot() == -1));
+        for (int i = 0; i < data.size(); i++) {
+            IntelligentItemData itemData = data.get(i);
+            itemData.setPage(i / slots.length);
+            itemData.setModifiedSlot(slots[i % slots.length]);
+        }
     }
 
     /**
@@ -1754,6 +1982,9 @@ public class RyseInventory {
             this.ryseInventory.closeAfter = builder.ryseInventory.closeAfter;
             this.ryseInventory.loadDelay = builder.ryseInventory.loadDelay;
             this.ryseInventory.loadTitle = builder.ryseInventory.loadTitle;
+            this.ryseInventory.clickLimit = builder.ryseInventory.clickLimit;
+            this.ryseInventory.clickLimitPeriod = builder.ryseInventory.clickLimitPeriod;
+            this.ryseInventory.titleCooldown = builder.ryseInventory.titleCooldown;
             this.ryseInventory.options.addAll(builder.ryseInventory.options);
             this.ryseInventory.events.addAll(builder.ryseInventory.events);
             this.ryseInventory.ignoreClickEvent.addAll(builder.ryseInventory.ignoreClickEvent);
@@ -1761,6 +1992,7 @@ public class RyseInventory {
             this.ryseInventory.fixedPageSize = builder.ryseInventory.fixedPageSize;
             this.ryseInventory.ignoredSlotsWithEvents = builder.ryseInventory.ignoredSlotsWithEvents;
             this.ryseInventory.updateTask = builder.ryseInventory.updateTask;
+            this.ryseInventory.updatePriority = builder.ryseInventory.updatePriority;
         }
 
         public @NotNull Builder newInstance() {
@@ -1782,6 +2014,18 @@ public class RyseInventory {
             return this;
         }
 
+        /**
+         * Sets the priority of the update task. If the update budget of the InventoryManager is used up in a tick,
+         * inventories with a lower priority are updated in one of the following ticks.
+         *
+         * @param priority The priority of the update task.
+         * @return The Inventory Builder to set additional options.
+         */
+        public @NotNull Builder updatePriority(@NotNull UpdatePriority priority) {
+            this.ryseInventory.updatePriority = priority;
+            return this;
+        }
+
         /**
          * Save the inventory permanently in a list. As a result, you can always get this inventory
          * through the {@link InventoryManager#getInventory(Object)} method.
@@ -2121,6 +2365,47 @@ public class RyseInventory {
             return this;
         }
 
+        /**
+         * Limits how often a player may click in the inventory. Clicks above the limit are cancelled, which protects
+         * the inventory against auto clickers.
+         *
+         * @param clicks  How many clicks are allowed within the time.
+         * @param time    Time
+         * @param setting Set your own time type.
+         * @return The Inventory Builder to set additional options.
+         * @throws IllegalArgumentException if clicks or time is less than 1
+         */
+        public @NotNull Builder clickLimit(@Nonnegative int clicks, @Nonnegative int time, @Nullable TimeSetting setting) throws IllegalArgumentException {
+            if (clicks < 1)
+                throw new IllegalArgumentException("The click limit must be at least 1");
+
+            int period = setting == null ? time : TimeUtils.buildTime(time, setting);
+            if (period < 1)
+                throw new IllegalArgumentException("The time of the click limit must be at least 1 tick");
+
+            this.ryseInventory.clickLimit = clicks;
+            this.ryseInventory.clickLimitPeriod = period;
+            return this;
+        }
+
+        /**
+         * Limits how often the title of a title animation is sent to a player. Frames that follow the previous title
+         * too quickly are skipped, the last frame of an animation is always sent.
+         *
+         * @param time    The minimum time between two titles.
+         * @param setting Set your own time type.
+         * @return The Inventory Builder to set additional options.
+         * @throws IllegalArgumentException if time is less than 1 tick
+         */
+        public @NotNull Builder titleCooldown(@Nonnegative int time, @Nullable TimeSetting setting) throws IllegalArgumentException {
+            int cooldown = setting == null ? time : TimeUtils.buildTime(time, setting);
+            if (cooldown < 1)
+                throw new IllegalArgumentException("The title cooldown must be at least 1 tick");
+
+            this.ryseInventory.titleCooldown = cooldown;
+            return this;
+        }
+
         /**
          * If you do not have a size but a row, you can also create an inventory by doing this.
          * This number of rows is used for each page.
@@ -2226,7 +2511,8 @@ public class RyseInventory {
         }
 
         /**
-         * Adds its own event to the inventory.
+         * Adds its own event to the inventory. If several events are added for the same event class, all of them are
+         * called in the order they were added.
          *
          * @param event What kind of event
          * @return The Inventory Builder to set additional options.
@@ -2298,6 +2584,8 @@ public class RyseInventory {
             validate();
 
             this.ryseInventory.plugin = plugin;
+            this.ryseInventory.policy = InventoryPolicy.compile(this.ryseInventory);
+            this.ryseInventory.eventHandlers = EventHandlerTable.compile(this.ryseInventory.events);
 
             if (this.ryseInventory.size != -1 && !this.ryseInventory.pages.isEmpty()) {
                 plugin.getLogger().warning("You use the #rows(Integer) and #rows(Page) method in the RyseInventory Builder. " +
@@ -2305,9 +2593,14 @@ public class RyseInventory {
                         "It will still work, but it is recommended to fix this bug.");
             }
 
+            if (this.ryseInventory.keepOriginal)
+                this.ryseInventory.originalInventory = this.ryseInventory;
+
             if (this.ryseInventory.permanentCache)
                 ryseInventory.manager.addToCache(this.ryseInventory);
 
+            this.ryseInventory.manager.registerHandlers(this.ryseInventory);
+
             return this.ryseInventory;
         }
 
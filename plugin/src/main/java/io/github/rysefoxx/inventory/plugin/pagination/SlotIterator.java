@@ -83,6 +83,18 @@ public class SlotIterator {
         return this.blackList;
     }
 
+    /**
+     * @return A bitmask with a bit set for every blacklisted slot.
+     */
+    protected long getBlackListMask() {
+        long mask = 0;
+        for (int slot : this.blackList) {
+            if (slot < 0 || slot >= Long.SIZE) continue;
+            mask |= 1L << slot;
+        }
+        return mask;
+    }
+
     /**
      * An enum that is used to tell the SlotIterator how to place the items.
      */
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import space.arim.morepaperlib.scheduling.ScheduledTask;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * A repeating task on the global region that runs the tasks of an {@link InventoryManager}.
+ * <br>
+ * The loop only runs while tasks are active. It is started by the first submitted task and stops itself once every
+ * task was retired. Each tick is run as one batch of item updates, so the updates of a tick are written once per slot.
+ * Subclasses decide which tasks are due in a tick.
+ *
+ * @param <T> The type of the tasks.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+abstract class TickLoop<T extends TickLoop.Task<T>> {
+
+    InventoryManager manager;
+    String errorMessage;
+    Queue<T> pending = new ConcurrentLinkedQueue<>();
+    AtomicInteger active = new AtomicInteger();
+    AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * @param manager      The manager whose tasks are run.
+     * @param errorMessage The message that is logged if a task throws an exception.
+     */
+    protected TickLoop(@NotNull InventoryManager manager, @NotNull String errorMessage) {
+        this.manager = manager;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * @return How many tasks are active.
+     */
+    public int getActive() {
+        return this.active.get();
+    }
+
+    /**
+     * Hands the task to the loop. It is picked up at the start of the next tick.
+     *
+     * @param task The task to add.
+     * @return The task.
+     */
+    protected @NotNull T submit(@NotNull T task) {
+        this.active.incrementAndGet();
+        this.pending.add(task);
+        start();
+        return task;
+    }
+
+    /**
+     * @return The next task that was submitted since the last tick, or null if there is none.
+     */
+    protected @Nullable T pollPending() {
+        return this.pending.poll();
+    }
+
+    /**
+     * Counts a task as gone. Must be called once for every task that is cancelled or over and dropped by the subclass.
+     */
+    protected void retire() {
+        this.active.decrementAndGet();
+    }
+
+    /**
+     * Runs a single task. An exception only affects this task and not the others of this tick.
+     *
+     * @param task The task to run.
+     */
+    protected void run(@NotNull T task) {
+        Task<T> base = task;
+        try {
+            base.action.accept(base.self());
+        } catch (RuntimeException exception) {
+            failed(task);
+            this.manager.getPlugin().getLogger().log(Level.SEVERE, this.errorMessage, exception);
+        }
+    }
+
+    /**
+     * Called after a task threw an exception. By default, the task keeps running.
+     *
+     * @param task The task that failed.
+     */
+    protected void failed(@NotNull T task) {
+    }
+
+    /**
+     * Runs the tasks which are due this tick.
+     */
+    protected abstract void runTick();
+
+    /**
+     * Starts the repeating task if it is not running yet.
+     */
+    protected void start() {
+        if (!this.running.compareAndSet(false, true)) return;
+
+        this.manager.getMorePaperLib().scheduling().globalRegionalScheduler().runAtFixedRate(this::tick, 1, 1);
+    }
+
+    /**
+     * Runs one tick as a single batch of item updates and stops the repeating task if nothing is left.
+     *
+     * @param scheduledTask The repeating task of this loop.
+     */
+    private void tick(@NotNull ScheduledTask scheduledTask) {
+        this.manager.runBatched(this::runTick);
+        stopIfIdle(scheduledTask);
+    }
+
+    /**
+     * Stops the repeating task when no task is left. A task that was submitted while stopping starts it again.
+     *
+     * @param scheduledTask The repeating task of this loop.
+     */
+    private void stopIfIdle(@NotNull ScheduledTask scheduledTask) {
+        if (this.active.get() > 0) return;
+
+        scheduledTask.cancel();
+        this.running.set(false);
+
+        if (this.active.get() > 0)
+            start();
+    }
+
+    /**
+     * A task which is run by a {@link TickLoop}.
+     *
+     * @param <S> The type of the task itself, which is passed to its action.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    abstract static class Task<S extends Task<S>> {
+
+        final Consumer<S> action;
+        volatile boolean cancelled;
+
+        protected Task(@NotNull Consumer<S> action) {
+            this.action = action;
+        }
+
+        /**
+         * Cancels the task. It will not run again.
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * @return true if the task was cancelled.
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @SuppressWarnings("unchecked")
+        private S self() {
+            return (S) this;
+        }
+    }
+}
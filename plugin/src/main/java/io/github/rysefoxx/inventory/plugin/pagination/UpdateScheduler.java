@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.enums.UpdatePriority;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs the provider updates of all viewers of an {@link InventoryManager} from a single repeating task.
+ * <br>
+ * Update tasks are stored in a hashed timing wheel. Every tick only the bucket of the current tick is visited, so the
+ * cost per tick depends on the number of updates that are due and not on the number of viewers.
+ * <br>
+ * Due updates are run by priority until the time budget of the tick is used up. The remaining updates stay queued
+ * and are run first in the following ticks, before newer updates of the same priority. The item updates the providers
+ * made are written into the inventories at the end of the tick.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UpdateScheduler extends TickLoop<UpdateScheduler.UpdateTask> {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(10);
+
+    Queue<UpdateTask>[] wheel;
+    Queue<UpdateTask>[] ready;
+    AtomicLong totalDeferred = new AtomicLong();
+
+    @NonFinal
+    volatile long budgetNanos = DEFAULT_BUDGET;
+    @NonFinal
+    volatile int deferred;
+    @NonFinal
+    long tick;
+
+    @SuppressWarnings("unchecked")
+    protected UpdateScheduler(@NotNull InventoryManager manager) {
+        super(manager, "An error occurred while updating an inventory.");
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.wheel[i] = new ArrayDeque<>();
+
+        this.ready = new Queue[UpdatePriority.values().length];
+        for (int i = 0; i < this.ready.length; i++)
+            this.ready[i] = new ArrayDeque<>();
+    }
+
+    /**
+     * Sets how much time the updates of all viewers may take together in one tick.
+     *
+     * @param time The budget. 0 disables the budget, so every due update runs in its tick.
+     * @param unit The unit of the budget.
+     */
+    public void setBudget(@Nonnegative long time, @NotNull TimeUnit unit) {
+        this.budgetNanos = unit.toNanos(time);
+    }
+
+    /**
+     * @param unit The unit in which the budget should be returned.
+     * @return The time the updates of all viewers may take together in one tick. 0 if the budget is disabled.
+     */
+    public long getBudget(@NotNull TimeUnit unit) {
+        return unit.convert(this.budgetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return How many due updates could not be run in the last tick because the budget was used up.
+     */
+    public int getDeferred() {
+        return this.deferred;
+    }
+
+    /**
+     * @return How often an update was deferred to a following tick since the scheduler was created.
+     */
+    public long getTotalDeferred() {
+        return this.totalDeferred.get();
+    }
+
+    /**
+     * Schedules a repeating update.
+     *
+     * @param action   The action to run. It receives its own task, so it can cancel itself.
+     * @param delay    The delay in ticks before the first run.
+     * @param period   The period in ticks between two runs.
+     * @param priority The priority used when the budget of a tick is used up.
+     * @return The task which can be used to cancel the update.
+     */
+    public @NotNull UpdateTask schedule(@NotNull Consumer<UpdateTask> action,
+                                        @Nonnegative int delay,
+                                        @Nonnegative int period,
+                                        @NotNull UpdatePriority priority) {
+        return submit(new UpdateTask(action, Math.max(1, delay), Math.max(1, period), priority));
+    }
+
+    /**
+     * Runs the updates which are due this tick, highest priority first, until the budget is used up.
+     */
+    @Override
+    protected void runTick() {
+        long now = ++this.tick;
+
+        UpdateTask updateTask;
+        while ((updateTask = pollPending()) != null) {
+            updateTask.nextTick = now + updateTask.delay - 1;
+            this.wheel[(int) (updateTask.nextTick & WHEEL_MASK)].add(updateTask);
+        }
+
+        Queue<UpdateTask> bucket = this.wheel[(int) (now & WHEEL_MASK)];
+        int size = bucket.size();
+        for (int i = 0; i < size; i++) {
+            UpdateTask current = bucket.poll();
+            if (current.isCancelled()) {
+                retire();
+                continue;
+            }
+            if (current.nextTick != now) {
+                bucket.add(current);
+                continue;
+            }
+            this.ready[current.priority.ordinal()].add(current);
+        }
+
+        long budget = this.budgetNanos;
+        long start = System.nanoTime();
+        boolean exhausted = false;
+        int left = 0;
+
+        for (int priority = this.ready.length - 1; priority >= 0; priority--) {
+            Queue<UpdateTask> queue = this.ready[priority];
+
+            while (!exhausted && !queue.isEmpty()) {
+                UpdateTask current = queue.poll();
+                if (current.isCancelled()) {
+                    retire();
+                    continue;
+                }
+
+                run(current);
+
+                if (current.isCancelled()) {
+                    retire();
+                } else {
+                    current.nextTick = now + current.period;
+                    this.wheel[(int) (current.nextTick & WHEEL_MASK)].add(current);
+                }
+
+                exhausted = budget > 0 && System.nanoTime() - start >= budget;
+            }
+            left += queue.size();
+        }
+
+        this.deferred = left;
+        if (left > 0)
+            this.totalDeferred.addAndGet(left);
+    }
+
+    /**
+     * A repeating update which is run by the {@link UpdateScheduler}.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class UpdateTask extends TickLoop.Task<UpdateTask> {
+
+        final int delay;
+        final int period;
+        final UpdatePriority priority;
+
+        long nextTick;
+
+        private UpdateTask(@NotNull Consumer<UpdateTask> action, int delay, int period, @NotNull UpdatePriority priority) {
+            super(action);
+            this.delay = delay;
+            this.period = period;
+            this.priority = priority;
+        }
+    }
+}
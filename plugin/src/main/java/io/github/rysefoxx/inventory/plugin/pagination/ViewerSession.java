@@ -0,0 +1,415 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentItemLoreAnimator;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentItemNameAnimator;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentMaterialAnimator;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentTitleAnimator;
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import net.wesjd.anvilgui.AnvilGUI;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds everything the {@link InventoryManager} knows about a single player.
+ * <br>
+ * The {@link RyseInventory} itself only describes the menu. The Bukkit inventory, the anvil gui, the cached
+ * pagination slots, the saved player inventory and the click cooldowns are created per viewer and live here, so several players can
+ * view the same {@link RyseInventory} without overwriting each other. The opened inventory, its contents, the update
+ * task, the running animations, the navigation history and the last open time are kept in the same record, so the
+ * manager only needs one concurrent map lookup per player.
+ * <br>
+ * Item updates that are made during a provider update or an animation frame are not written into the inventory right
+ * away. The session collects them per slot and the manager writes them at the end of the tick, so a slot that is
+ * updated several times in one tick is only sent once.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/18/2026
+ */
+@Getter
+@Setter(AccessLevel.PROTECTED)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ApiStatus.Internal
+public class ViewerSession {
+
+    @Setter(AccessLevel.NONE)
+    final UUID uuid;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    final Deque<RyseInventory> history = new ConcurrentLinkedDeque<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    final AtomicLong lastOpen = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    final AtomicReference<UpdateScheduler.UpdateTask> updaterTask = new AtomicReference<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    final ItemStack[] pendingItems = new ItemStack[54];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    long dirtySlots;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    final long[] clickCooldowns = new long[54];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    long clickWindowStart;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int clickWindowCount;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable String lastTitle;
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.NONE)
+    final List<IntelligentItemNameAnimator> itemAnimators = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.NONE)
+    final List<IntelligentMaterialAnimator> materialAnimators = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.NONE)
+    final List<IntelligentTitleAnimator> titleAnimators = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.NONE)
+    final List<IntelligentItemLoreAnimator> loreAnimators = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.NONE)
+    final List<AnimationEngine.AnimationTask> slideTasks = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    long lastTitleTime;
+
+    @Setter(AccessLevel.NONE)
+    volatile @Nullable RyseInventory template;
+    volatile @Nullable RyseInventory openedInventory;
+    volatile @Nullable InventoryContents contents;
+
+    volatile @Nullable Inventory inventory;
+    volatile @Nullable AnvilGUI.Builder anvilGUIBuilder;
+    volatile @Nullable AnvilGUI anvilGUI;
+    volatile @Nullable PaginationData paginationCache;
+    volatile ItemStack @Nullable [] playerInventory;
+    volatile boolean delayed;
+    volatile boolean backward;
+
+    protected ViewerSession(@NotNull UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    /**
+     * @return The inventory the player is currently looking at. If an anvil gui was opened, its inventory is returned.
+     */
+    public @Nullable Inventory activeInventory() {
+        AnvilGUI anvilGUI = this.anvilGUI;
+        if (anvilGUI != null)
+            return anvilGUI.getInventory();
+
+        return this.inventory;
+    }
+
+    /**
+     * Binds the session to the inventory that is about to be opened. If the player switches to another inventory,
+     * the view state of the previous inventory is discarded.
+     *
+     * @param template The inventory that is being opened.
+     */
+    protected void bind(@NotNull RyseInventory template) {
+        this.anvilGUI = null;
+        this.lastTitle = null;
+        if (this.template == template) return;
+
+        this.template = template;
+        this.inventory = null;
+        this.anvilGUIBuilder = null;
+        this.paginationCache = null;
+        this.delayed = false;
+        Arrays.fill(this.clickCooldowns, 0);
+        this.clickWindowCount = 0;
+    }
+
+    /**
+     * @param now      The current time in milliseconds.
+     * @param cooldown The time in milliseconds that must have passed since the last open.
+     * @return true if the player is allowed to open an inventory again.
+     */
+    protected boolean canOpen(long now, long cooldown) {
+        long last = this.lastOpen.get();
+        return last == 0 || now - last > cooldown;
+    }
+
+    /**
+     * Atomically checks the cooldown and stores the new open time, so two region threads can not both pass the check.
+     *
+     * @param now      The current time in milliseconds.
+     * @param cooldown The time in milliseconds that must have passed since the last open.
+     * @return true if the open time was updated.
+     */
+    protected boolean tryOpen(long now, long cooldown) {
+        long last = this.lastOpen.get();
+        if (last != 0 && now - last <= cooldown) return false;
+        return this.lastOpen.compareAndSet(last, now);
+    }
+
+    /**
+     * @return The time in milliseconds the player opened an inventory the last time, or 0 if he never did.
+     */
+    protected long lastOpenTime() {
+        return this.lastOpen.get();
+    }
+
+    /**
+     * @param now The time in milliseconds to store as last open time.
+     */
+    protected void setLastOpen(long now) {
+        this.lastOpen.set(now);
+    }
+
+    /**
+     * Counts the click in the current time window. The window starts with the first click after the previous window
+     * ended. Clicks of a player are always handled on the thread that owns the player, so no synchronization is needed.
+     *
+     * @param now    The current time in milliseconds.
+     * @param limit  How many clicks are allowed in one window.
+     * @param period The length of a window in milliseconds.
+     * @return true if the click is within the limit.
+     */
+    protected boolean tryClick(long now, int limit, long period) {
+        if (now - this.clickWindowStart >= period) {
+            this.clickWindowStart = now;
+            this.clickWindowCount = 0;
+        }
+        return ++this.clickWindowCount <= limit;
+    }
+
+    /**
+     * Checks the cooldown of the slot and starts a new one if the slot may be clicked.
+     *
+     * @param slot     The clicked slot.
+     * @param now      The current time in milliseconds.
+     * @param cooldown The time in milliseconds until the slot may be clicked again.
+     * @return true if the slot may be clicked.
+     */
+    protected boolean tryClickSlot(int slot, long now, long cooldown) {
+        if (slot < 0 || slot >= this.clickCooldowns.length) return true;
+        if (now < this.clickCooldowns[slot]) return false;
+
+        this.clickCooldowns[slot] = now + cooldown;
+        return true;
+    }
+
+    /**
+     * Checks if a frame of a title animation should be sent. A frame is skipped if the player already sees it or if
+     * the last title was sent less than the cooldown ago. Title animations run on the global region thread, so no
+     * synchronization is needed.
+     *
+     * @param title    The title of the frame.
+     * @param now      The current time in milliseconds.
+     * @param cooldown The time in milliseconds that must have passed since the last title, or 0 for no cooldown.
+     * @return true if the title should be sent.
+     */
+    protected boolean tryTitle(@NotNull String title, long now, long cooldown) {
+        if (title.equals(this.lastTitle)) return false;
+        if (cooldown > 0 && now - this.lastTitleTime < cooldown) return false;
+
+        this.lastTitle = title;
+        this.lastTitleTime = now;
+        return true;
+    }
+
+    /**
+     * Forgets the last title of an animation, e.g. because the title was changed by other means.
+     */
+    protected void forgetTitle() {
+        this.lastTitle = null;
+    }
+
+    /**
+     * Stops all animations that were started for this player. Animations of other players who view the same
+     * inventory keep running.
+     */
+    protected void cancelAnimations() {
+        for (IntelligentItemNameAnimator animator : this.itemAnimators)
+            animator.stop();
+        this.itemAnimators.clear();
+
+        for (IntelligentTitleAnimator animator : this.titleAnimators)
+            animator.stop();
+        this.titleAnimators.clear();
+
+        for (IntelligentItemLoreAnimator animator : this.loreAnimators)
+            animator.stop();
+        this.loreAnimators.clear();
+
+        for (IntelligentMaterialAnimator animator : this.materialAnimators)
+            animator.stop();
+        this.materialAnimators.clear();
+
+        this.slideTasks.forEach(AnimationEngine.AnimationTask::cancel);
+        this.slideTasks.clear();
+    }
+
+    /**
+     * @return The number of slide animation tasks of this player that are still running.
+     */
+    protected int activeSlideTasks() {
+        int count = 0;
+        for (AnimationEngine.AnimationTask task : this.slideTasks) {
+            if (task.isCancelled()) continue;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return true if the player is navigating back. The flag is reset, so it only applies to the next open.
+     */
+    protected boolean consumeBackward() {
+        boolean backward = this.backward;
+        this.backward = false;
+        return backward;
+    }
+
+    /**
+     * @param inventory The inventory the player navigated away from.
+     */
+    protected void pushHistory(@NotNull RyseInventory inventory) {
+        this.history.addLast(inventory);
+    }
+
+    /**
+     * @return The inventory the player navigated away from most recently, or null if there is none.
+     */
+    protected @Nullable RyseInventory pollHistory() {
+        return this.history.pollLast();
+    }
+
+    /**
+     * @return The inventories the player navigated away from, the most recent one last.
+     */
+    protected @NotNull List<RyseInventory> historySnapshot() {
+        return new ArrayList<>(this.history);
+    }
+
+    /**
+     * @return The update task of this session or null if none is running.
+     */
+    protected @Nullable UpdateScheduler.UpdateTask currentUpdaterTask() {
+        return this.updaterTask.get();
+    }
+
+    /**
+     * Stores the update task if no other task is running for this session.
+     *
+     * @param task The task to store.
+     * @return true if the task was stored, false if another task is already running.
+     */
+    protected boolean setUpdaterTaskIfAbsent(@NotNull UpdateScheduler.UpdateTask task) {
+        return this.updaterTask.compareAndSet(null, task);
+    }
+
+    /**
+     * @return true if an update task is running for this session.
+     */
+    protected boolean hasUpdaterTask() {
+        return this.updaterTask.get() != null;
+    }
+
+    /**
+     * Cancels the update task of this session, if there is one.
+     */
+    protected void cancelUpdaterTask() {
+        UpdateScheduler.UpdateTask task = this.updaterTask.getAndSet(null);
+        if (task != null)
+            task.cancel();
+    }
+
+    /**
+     * Remembers the item that should be shown in the slot. An earlier pending item of the slot is replaced.
+     *
+     * @param slot      The slot of the item.
+     * @param itemStack The item or null to clear the slot.
+     * @return true if the session had no pending items before, so it has to be queued for the next flush.
+     */
+    protected boolean markDirty(int slot, @Nullable ItemStack itemStack) {
+        if (slot < 0 || slot >= this.pendingItems.length) return false;
+
+        synchronized (this.pendingItems) {
+            boolean clean = this.dirtySlots == 0;
+            this.pendingItems[slot] = itemStack;
+            this.dirtySlots |= 1L << slot;
+            return clean;
+        }
+    }
+
+    /**
+     * Writes all pending items into the inventory the player is currently looking at.
+     */
+    protected void flushSlotUpdates() {
+        synchronized (this.pendingItems) {
+            long dirty = this.dirtySlots;
+            if (dirty == 0) return;
+            this.dirtySlots = 0;
+
+            Inventory inventory = activeInventory();
+            for (; dirty != 0; dirty &= dirty - 1) {
+                int slot = Long.numberOfTrailingZeros(dirty);
+                if (inventory != null && slot < inventory.getSize())
+                    inventory.setItem(slot, this.pendingItems[slot]);
+                this.pendingItems[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Drops all pending items, e.g. because another page is loaded into the inventory.
+     */
+    protected void discardSlotUpdates() {
+        synchronized (this.pendingItems) {
+            this.dirtySlots = 0;
+            Arrays.fill(this.pendingItems, null);
+        }
+    }
+}
@@ -28,8 +28,10 @@ package io.github.rysefoxx.inventory.plugin.pattern;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
@@ -49,11 +51,79 @@ public class SlotIteratorPattern {
     List<String> lines = new ArrayList<>();
     char attachedChar;
 
+    @Getter(AccessLevel.NONE)
+    volatile @Nullable PageLayout layout;
+
     @Contract(value = " -> new", pure = true)
     public static @NotNull Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Returns the slots of a single page in the order in which they receive items. Every page of a pagination is laid
+     * out the same way, so the item with the index i is placed on page i / length in the slot i % length.
+     * <p>
+     * The result is cached for the last passed parameters.
+     *
+     * @param startSlot    The slot where the pagination starts.
+     * @param itemsPerPage How many items may be placed on a page. Only used if there is no end position.
+     * @param endPosition  The slot where the pagination ends or -1.
+     * @param size         The size of the inventory.
+     * @return The slots of a page. The array must not be modified.
+     */
+    @ApiStatus.Internal
+    public int @NotNull [] slotsPerPage(@Nonnegative int startSlot,
+                                        @Nonnegative int itemsPerPage,
+                                        int endPosition,
+                                        @Nonnegative int size) {
+        PageLayout layout = this.layout;
+        if (layout != null && layout.matches(startSlot, itemsPerPage, endPosition, size))
+            return layout.slots;
+
+        int[] slots = computeSlots(startSlot, itemsPerPage, endPosition, size);
+        this.layout = new PageLayout(startSlot, itemsPerPage, endPosition, size, slots);
+        return slots;
+    }
+
+    /**
+     * Walks through the pattern like the pagination does and collects every slot with the attached char until the page
+     * is full. If the pattern ends before the page is full, it starts again from the first line.
+     */
+    private int @NotNull [] computeSlots(int startSlot, int itemsPerPage, int endPosition, int size) {
+        char[] pattern = String.join("", this.lines).toCharArray();
+        if (pattern.length == 0)
+            return new int[0];
+
+        int[] slots = new int[Math.max(size, 0)];
+        int found = 0;
+        int index = 0;
+
+        for (int slot = startSlot; ; slot++) {
+            if ((found >= itemsPerPage && endPosition == -1)
+                    || slot > size - 1
+                    || (slot >= endPosition && endPosition != -1))
+                break;
+
+            if (pattern[index] == this.attachedChar)
+                slots[found++] = slot;
+
+            if (++index == pattern.length)
+                index = 0;
+        }
+
+        return Arrays.copyOf(slots, found);
+    }
+
+    private record PageLayout(int startSlot, int itemsPerPage, int endPosition, int size, int[] slots) {
+
+        private boolean matches(int startSlot, int itemsPerPage, int endPosition, int size) {
+            return this.startSlot == startSlot
+                    && this.itemsPerPage == itemsPerPage
+                    && this.endPosition == endPosition
+                    && this.size == size;
+        }
+    }
+
     public static class Builder {
         private final List<String> lines = new ArrayList<>();
         private Character attachedChar;
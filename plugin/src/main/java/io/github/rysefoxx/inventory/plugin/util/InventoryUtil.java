@@ -5,53 +5,70 @@ import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
+/**
+ * In API versions 1.20.6 and earlier, InventoryView is a class.
+ * In versions 1.21 and later, it is an interface.
+ * A direct call would only work on one of them, so the methods of the InventoryView are resolved once on the running
+ * server and called through method handles.
+ */
 @UtilityClass
 public class InventoryUtil {
 
+    private static final MethodHandle GET_PLAYER = findViewMethod("getPlayer", HumanEntity.class);
+    private static final MethodHandle GET_TOP_INVENTORY = findViewMethod("getTopInventory", Inventory.class);
+    private static final MethodHandle GET_BOTTOM_INVENTORY = findViewMethod("getBottomInventory", Inventory.class);
+
     /**
-     * In API versions 1.20.6 and earlier, InventoryView is a class.
-     * In versions 1.21 and later, it is an interface.
-     * This method uses reflection to get the top Inventory object from the
-     * InventoryView associated with an InventoryEvent, to avoid runtime errors.
+     * Gets the player from the InventoryView associated with an InventoryEvent.
      *
      * @param event The generic InventoryEvent with an InventoryView to inspect.
      * @return The player object from the event's InventoryView.
      */
     public HumanEntity getPlayer(InventoryEvent event) {
         try {
-            Object view = event.getView();
-            Method getTopInventory = view.getClass().getMethod("getPlayer");
-            getTopInventory.setAccessible(true);
-            return (HumanEntity) getTopInventory.invoke(view);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            throw new RuntimeException(e);
+            return (HumanEntity) GET_PLAYER.invokeExact((Object) event.getView());
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
         }
     }
 
     public Inventory getPlayerTopInventory(@NotNull Player player) {
         try {
-            Object view = player.getOpenInventory();
-            Method getTopInventory = view.getClass().getMethod("getTopInventory");
-            getTopInventory.setAccessible(true);
-            return (Inventory) getTopInventory.invoke(view);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-            throw new RuntimeException(ex);
+            return (Inventory) GET_TOP_INVENTORY.invokeExact((Object) player.getOpenInventory());
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
         }
     }
 
     public Inventory getPlayerBottomInventory(@NotNull Player player) {
         try {
-            Object view = player.getOpenInventory();
-            Method getBottomInventory = view.getClass().getMethod("getBottomInventory");
-            getBottomInventory.setAccessible(true);
-            return (Inventory) getBottomInventory.invoke(view);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-            throw new RuntimeException(ex);
+            return (Inventory) GET_BOTTOM_INVENTORY.invokeExact((Object) player.getOpenInventory());
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    /**
+     * Resolves a method of the InventoryView and adapts it, so it can be invoked exactly with an Object.
+     *
+     * @param name       The name of the method.
+     * @param returnType The return type of the method.
+     * @return The method handle.
+     */
+    private static @NotNull MethodHandle findViewMethod(@NotNull String name, @NotNull Class<?> returnType) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(InventoryView.class, name, MethodType.methodType(returnType))
+                    .asType(MethodType.methodType(returnType, Object.class));
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
         }
     }
-}
\ No newline at end of file
+}
@@ -4,9 +4,13 @@ import com.cryptomorin.xseries.reflection.XReflection;
 import com.cryptomorin.xseries.reflection.minecraft.MinecraftConnection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import io.github.rysefoxx.inventory.api.TitleRenderer;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -16,13 +20,16 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.logging.Level;
 
 /**
  * A utility class for update the inventory of a player.
  * This is useful to change the title of an inventory.
+ * <p>
+ * On 1.20 and newer, the title is changed through the {@link TitleRenderer} of the version module. If there is no
+ * module for the running version, the methods of the InventoryView are resolved once. Older versions send the open
+ * window packet, whose handles are also resolved once.
  */
 @SuppressWarnings("ConstantConditions")
 public final class TitleUpdater {
@@ -50,42 +57,75 @@ public final class TitleUpdater {
     private static final MethodHandle activeContainer;
     private static final MethodHandle windowId;
 
+    // InventoryView methods, only used on 1.20+ if there is no version module.
+    private static final MethodHandle getViewType;
+    private static final MethodHandle setViewTitle;
+
     // Methods factory.
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     private static final JavaPlugin PLUGIN = JavaPlugin.getProvidingPlugin(TitleUpdater.class);
     private static final Set<String> UNOPENABLES = Sets.newHashSet("CRAFTING", "CREATIVE", "PLAYER");
     private static final boolean SUPPORTS_19 = XReflection.supports(19);
+    private static final boolean SUPPORTS_20 = XReflection.supports(20);
     private static final Object[] DUMMY_COLOR_MODIFIERS = new Object[0];
 
+    private static final TitleRenderer<Player> RENDERER = SUPPORTS_20 ? loadRenderer() : null;
+
     static {
-        // Initialize classes.
-        CRAFT_PLAYER = XReflection.getCraftClass("entity.CraftPlayer");
-        CHAT_MESSAGE = SUPPORTS_19 ? null : XReflection.getNMSClass("network.chat", "ChatMessage");
-        PACKET_PLAY_OUT_OPEN_WINDOW = XReflection.getNMSClass("network.protocol.game", "PacketPlayOutOpenWindow");
-        I_CHAT_BASE_COMPONENT = XReflection.getNMSClass("network.chat", "IChatBaseComponent");
-        // Check if we use containers, otherwise, can throw errors on older versions.
-        CONTAINERS = useContainers() ? XReflection.getNMSClass("world.inventory", "Containers") : null;
-        ENTITY_PLAYER = XReflection.getNMSClass("server.level", "EntityPlayer");
-        CONTAINER = XReflection.getNMSClass("world.inventory", "Container");
-        I_CHAT_MUTABLE_COMPONENT = SUPPORTS_19 ? XReflection.getNMSClass("network.chat", "IChatMutableComponent") : null;
-
-        // Initialize methods.
-        getHandle = getMethod(CRAFT_PLAYER, "getHandle", MethodType.methodType(ENTITY_PLAYER));
-        getBukkitView = getMethod(CONTAINER, "getBukkitView", MethodType.methodType(InventoryView.class));
-        literal = SUPPORTS_19 ? getMethod(I_CHAT_BASE_COMPONENT, "b", MethodType.methodType(I_CHAT_MUTABLE_COMPONENT, String.class), true) : null;
-
-        // Initialize constructors.
-        chatMessage = SUPPORTS_19 ? null : getConstructor(CHAT_MESSAGE, String.class, Object[].class);
-        packetPlayOutOpenWindow =
-                (useContainers()) ?
-                        getConstructor(PACKET_PLAY_OUT_OPEN_WINDOW, int.class, CONTAINERS, I_CHAT_BASE_COMPONENT) :
-                        // Older versions use String instead of Containers, and require an int for the inventory size.
-                        getConstructor(PACKET_PLAY_OUT_OPEN_WINDOW, int.class, String.class, I_CHAT_BASE_COMPONENT, int.class);
-
-        // Initialize fields.
-        activeContainer = getField(ENTITY_PLAYER, CONTAINER, "activeContainer", "bV", "bW", "bU", "bP", "containerMenu");
-        windowId = getField(CONTAINER, int.class, "windowId", "j", "containerId");
+        if (SUPPORTS_20) {
+            // The title can be set through the InventoryView, the packet handles are not needed.
+            CRAFT_PLAYER = null;
+            CHAT_MESSAGE = null;
+            PACKET_PLAY_OUT_OPEN_WINDOW = null;
+            I_CHAT_BASE_COMPONENT = null;
+            CONTAINERS = null;
+            ENTITY_PLAYER = null;
+            CONTAINER = null;
+            I_CHAT_MUTABLE_COMPONENT = null;
+            getHandle = null;
+            getBukkitView = null;
+            literal = null;
+            chatMessage = null;
+            packetPlayOutOpenWindow = null;
+            activeContainer = null;
+            windowId = null;
+
+            // InventoryView is a class before 1.21 and an interface since, so it is looked up on the running server.
+            getViewType = RENDERER == null ? getPublicMethod(InventoryView.class, "getType", MethodType.methodType(InventoryType.class)) : null;
+            setViewTitle = RENDERER == null ? getPublicMethod(InventoryView.class, "setTitle", MethodType.methodType(void.class, String.class)) : null;
+        } else {
+            getViewType = null;
+            setViewTitle = null;
+
+            // Initialize classes.
+            CRAFT_PLAYER = XReflection.getCraftClass("entity.CraftPlayer");
+            CHAT_MESSAGE = SUPPORTS_19 ? null : XReflection.getNMSClass("network.chat", "ChatMessage");
+            PACKET_PLAY_OUT_OPEN_WINDOW = XReflection.getNMSClass("network.protocol.game", "PacketPlayOutOpenWindow");
+            I_CHAT_BASE_COMPONENT = XReflection.getNMSClass("network.chat", "IChatBaseComponent");
+            // Check if we use containers, otherwise, can throw errors on older versions.
+            CONTAINERS = useContainers() ? XReflection.getNMSClass("world.inventory", "Containers") : null;
+            ENTITY_PLAYER = XReflection.getNMSClass("server.level", "EntityPlayer");
+            CONTAINER = XReflection.getNMSClass("world.inventory", "Container");
+            I_CHAT_MUTABLE_COMPONENT = SUPPORTS_19 ? XReflection.getNMSClass("network.chat", "IChatMutableComponent") : null;
+
+            // Initialize methods.
+            getHandle = getMethod(CRAFT_PLAYER, "getHandle", MethodType.methodType(ENTITY_PLAYER));
+            getBukkitView = getMethod(CONTAINER, "getBukkitView", MethodType.methodType(InventoryView.class));
+            literal = SUPPORTS_19 ? getMethod(I_CHAT_BASE_COMPONENT, "b", MethodType.methodType(I_CHAT_MUTABLE_COMPONENT, String.class), true) : null;
+
+            // Initialize constructors.
+            chatMessage = SUPPORTS_19 ? null : getConstructor(CHAT_MESSAGE, String.class, Object[].class);
+            packetPlayOutOpenWindow =
+                    (useContainers()) ?
+                            getConstructor(PACKET_PLAY_OUT_OPEN_WINDOW, int.class, CONTAINERS, I_CHAT_BASE_COMPONENT) :
+                            // Older versions use String instead of Containers, and require an int for the inventory size.
+                            getConstructor(PACKET_PLAY_OUT_OPEN_WINDOW, int.class, String.class, I_CHAT_BASE_COMPONENT, int.class);
+
+            // Initialize fields.
+            activeContainer = getField(ENTITY_PLAYER, CONTAINER, "activeContainer", "bV", "bW", "bU", "bP", "containerMenu");
+            windowId = getField(CONTAINER, int.class, "windowId", "j", "containerId");
+        }
     }
 
     /**
@@ -104,19 +144,17 @@ public final class TitleUpdater {
                 newTitle = newTitle.substring(0, 32);
             }
 
-            if (XReflection.supports(20)) {
-                try {
-                    Object view = player.getOpenInventory();
-                    Method getType = view.getClass().getMethod("getType");
-                    getType.setAccessible(true);
-                    InventoryType inventoryType = (InventoryType) getType.invoke(view);
-                    if (UNOPENABLES.contains(inventoryType.name())) return;
-                    Method setTitle = view.getClass().getMethod("setTitle", String.class);
-                    setTitle.setAccessible(true);
-                    setTitle.invoke(view, newTitle);
-                } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-                    throw new RuntimeException(ex);
-                }
+            if (RENDERER != null) {
+                RENDERER.updateTitle(player, newTitle);
+                return;
+            }
+
+            if (SUPPORTS_20) {
+                Object view = player.getOpenInventory();
+                InventoryType inventoryType = (InventoryType) getViewType.invoke(view);
+                if (UNOPENABLES.contains(inventoryType.name())) return;
+
+                setViewTitle.invoke(view, newTitle);
                 return;
             }
 
@@ -180,8 +218,9 @@ public final class TitleUpdater {
             // Send packet sync.
             MinecraftConnection.sendPacket(player, packet);
 
-            // Update inventory.
-            player.updateInventory();
+            // The reopened window is empty on the client, so its items are sent again. An empty window needs no resend.
+            if (hasItems(view.getTopInventory()))
+                player.updateInventory();
         } catch (Throwable throwable) {
             throwable.printStackTrace();
         }
@@ -199,6 +238,36 @@ public final class TitleUpdater {
         return null;
     }
 
+    private static boolean hasItems(@NotNull Inventory inventory) {
+        for (ItemStack itemStack : inventory.getContents()) {
+            if (itemStack != null && itemStack.getType() != Material.AIR) return true;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable TitleRenderer<Player> loadRenderer() {
+        try {
+            Class<?> clazz = Class.forName("io.github.rysefoxx.inventory.v1_" + XReflection.MINOR_NUMBER + ".TitleHandler");
+            if (TitleRenderer.class.isAssignableFrom(clazz))
+                return (TitleRenderer<Player>) clazz.getConstructor().newInstance();
+        } catch (ClassNotFoundException exception) {
+            PLUGIN.getLogger().info("No title module for 1." + XReflection.MINOR_NUMBER + ", the title is changed through the InventoryView.");
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            PLUGIN.getLogger().log(Level.WARNING, "Could not load the title module for 1." + XReflection.MINOR_NUMBER + ", the title is changed through the InventoryView.", exception);
+        }
+        return null;
+    }
+
+    private static @Nullable MethodHandle getPublicMethod(Class<?> refc, String name, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(refc, name, type);
+        } catch (ReflectiveOperationException exception) {
+            exception.printStackTrace();
+            return null;
+        }
+    }
+
     private static String @NotNull [] removeFirst(String @NotNull [] array) {
         int length = array.length;
 
@@ -298,6 +367,9 @@ public final class TitleUpdater {
         private final String minecraftName;
         private final String[] inventoryTypesNames;
 
+        private Object object;
+        private boolean resolved;
+
         private static final char[] alphabet = "abcdefghijklmnopqrstuvwxyz".toCharArray();
 
         Containers(int containerVersion, String minecraftName, String... inventoryTypesNames) {
@@ -327,11 +399,13 @@ public final class TitleUpdater {
         }
 
         /**
-         * Get the object from the container enum.
+         * Get the object from the container enum. The object is resolved once.
          *
          * @return a Containers object if 1.14+, otherwise, a String.
          */
         public @Nullable Object getObject() {
+            if (this.resolved) return this.object;
+
             try {
                 if (!useContainers()) return getMinecraftName();
                 int version = XReflection.MINOR_NUMBER;
@@ -339,7 +413,9 @@ public final class TitleUpdater {
                 // Since 1.17, containers go from "a" to "x".
                 if (version > 16) name = String.valueOf(alphabet[ordinal()]);
                 Field field = CONTAINERS.getField(name);
-                return field.get(null);
+                this.object = field.get(null);
+                this.resolved = true;
+                return this.object;
             } catch (ReflectiveOperationException exception) {
                 exception.printStackTrace();
             }
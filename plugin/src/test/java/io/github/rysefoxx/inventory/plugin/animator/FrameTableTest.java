@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
+import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameTableTest {
+
+    private static final Map<Character, IntelligentItemColor> COLORS = new HashMap<>();
+
+    static {
+        COLORS.put('r', IntelligentItemColor.builder().bukkitColor(ChatColor.RED).build());
+        COLORS.put('b', IntelligentItemColor.builder().bukkitColor(ChatColor.BLUE).bold().build());
+    }
+
+    private static List<String> frames(FrameTable table, int steps) {
+        List<String> frames = new ArrayList<>();
+        for (int step = 0; step < steps && !table.isFinished(step); step++)
+            frames.add(table.frameAt(step));
+        return frames;
+    }
+
+    @Test
+    void wordByWordColorsOneLetterPerStep() {
+        FrameTable table = FrameTable.compile(IntelligentItemAnimatorType.WORD_BY_WORD, "ab c", List.of("r"), COLORS, false, 4);
+
+        List<String> expected = new ArrayList<>();
+        expected.add("§ca");
+        expected.add("§ca§cb");
+        expected.add(null);
+        expected.add("§ca§cb§c §cc");
+
+        assertEquals(expected, frames(table, 10));
+        assertTrue(table.isFinished(4));
+        assertEquals(-1, table.loopStart());
+    }
+
+    @Test
+    void fullWordShowsRestOfTextInWhite() {
+        FrameTable table = FrameTable.compile(IntelligentItemAnimatorType.FULL_WORD, "ab", List.of("rb"), COLORS, false, 2);
+
+        assertEquals(List.of("§ca§fb", "§ca§9§lb§f"), frames(table, 10));
+    }
+
+    @Test
+    void flashColorsTheWholeText() {
+        FrameTable table = FrameTable.compile(IntelligentItemAnimatorType.FLASH, "Hi", List.of("rb"), COLORS, false, 2);
+
+        assertEquals(List.of("§cHi", "§9§lHi"), frames(table, 10));
+    }
+
+    @Test
+    void framesAreUsedOneAfterAnother() {
+        FrameTable table = FrameTable.compile(IntelligentItemAnimatorType.FLASH, "Hi", List.of("r", "b"), COLORS, false, 2);
+
+        assertEquals(List.of("§cHi", "§9§lHi", "§9§lHi", "§9§lHi"), frames(table, 10));
+    }
+
+    @Test
+    void loopRepeatsFromFirstRepeatedFrame() {
+        FrameTable table = FrameTable.compile(IntelligentItemAnimatorType.WORD_BY_WORD, "ab", List.of("r", "b"), COLORS, true, 2);
+
+        assertEquals(2, table.length());
+        assertEquals(0, table.loopStart());
+        assertFalse(table.isFinished(100));
+        assertEquals("§ca", table.frameAt(2));
+        assertEquals("§ca§9§lb", table.frameAt(101));
+    }
+
+    @Test
+    void emptyInputGivesEmptyTable() {
+        assertTrue(FrameTable.compile(IntelligentItemAnimatorType.WORD_BY_WORD, "", List.of("r"), COLORS, false, 0).isEmpty());
+        assertTrue(FrameTable.compile(IntelligentItemAnimatorType.WORD_BY_WORD, "ab", List.of(), COLORS, false, 2).isEmpty());
+    }
+
+    @Test
+    void emptyFrameIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FrameTable.compile(IntelligentItemAnimatorType.FLASH, "ab", List.of(""), COLORS, false, 2));
+    }
+
+    @Test
+    void typingAddsOneLetterPerStep() {
+        assertEquals(List.of("a", "ab", "abc"), frames(FrameTable.typing("abc", false), 10));
+
+        FrameTable loop = FrameTable.typing("ab", true);
+        assertEquals("a", loop.frameAt(2));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import io.github.rysefoxx.inventory.plugin.enums.AnimatorDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidePlanTest {
+
+    @Test
+    void movesAreSortedByStep() {
+        SlidePlan plan = SlidePlan.compile(List.of(new int[]{0, 1, 2}, new int[]{9, 10}));
+
+        assertEquals(3, plan.steps());
+        assertArrayEquals(new int[]{0, 9}, plan.slotsOf(0));
+        assertArrayEquals(new int[]{0, 1}, plan.itemsOf(0));
+        assertArrayEquals(new int[]{1, 10}, plan.slotsOf(1));
+        assertArrayEquals(new int[]{2}, plan.slotsOf(2));
+        assertArrayEquals(new int[]{0}, plan.itemsOf(2));
+    }
+
+    @Test
+    void itemsWithSameStartWaitForThePreviousItem() {
+        SlidePlan plan = SlidePlan.compile(List.of(new int[]{0, 1, 2}, new int[]{0, 1}, new int[]{0}));
+
+        assertEquals(5, plan.steps());
+        assertArrayEquals(new int[]{0}, plan.itemsOf(0));
+        assertArrayEquals(new int[]{0}, plan.itemsOf(1));
+        assertArrayEquals(new int[]{0, 1}, plan.itemsOf(2));
+        assertArrayEquals(new int[]{2, 0}, plan.slotsOf(2));
+        assertArrayEquals(new int[]{1}, plan.slotsOf(3));
+        assertArrayEquals(new int[]{2}, plan.itemsOf(4));
+        assertArrayEquals(new int[]{0}, plan.slotsOf(4));
+    }
+
+    @Test
+    void emptyPathsHaveNoSteps() {
+        assertEquals(0, SlidePlan.compile(List.of()).steps());
+        assertEquals(0, SlidePlan.compile(List.of(new int[0])).steps());
+    }
+
+    @Test
+    void pathFollowsDirection() {
+        assertArrayEquals(new int[]{0, 1, 2, 3}, SlidePlan.path(AnimatorDirection.HORIZONTAL_LEFT_RIGHT, 0, 3));
+        assertArrayEquals(new int[]{8, 7, 6}, SlidePlan.path(AnimatorDirection.HORIZONTAL_RIGHT_LEFT, 8, 6));
+        assertArrayEquals(new int[]{1, 10, 19}, SlidePlan.path(AnimatorDirection.VERTICAL_UP_DOWN, 1, 19));
+        assertArrayEquals(new int[]{0, 10, 20}, SlidePlan.path(AnimatorDirection.DIAGONAL_TOP_LEFT, 0, 20));
+        assertArrayEquals(new int[0], SlidePlan.path(AnimatorDirection.VERTICAL_UP_DOWN, 19, 1));
+    }
+}
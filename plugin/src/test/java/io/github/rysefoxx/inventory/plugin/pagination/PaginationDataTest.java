@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationDataTest {
+
+    private static PaginationData of(int... slotsAndPages) {
+        PaginationData data = new PaginationData();
+        for (int i = 0; i < slotsAndPages.length; i += 2)
+            data.add(slotsAndPages[i], slotsAndPages[i + 1]);
+        return data;
+    }
+
+    @Test
+    void cursorsAdvanceIndependently() {
+        PaginationData data = of(10, 0, 11, 0, 10, 1);
+
+        assertEquals(10, data.getFirstSlot());
+        assertEquals(11, data.getFirstSlot());
+        assertEquals(0, data.getFirstPage());
+
+        assertArrayEquals(new int[]{10}, data.getSlots());
+        assertArrayEquals(new int[]{0, 1}, data.getPages());
+    }
+
+    @Test
+    void exhaustedCursorsReturnMinusOne() {
+        PaginationData data = of(5, 2);
+
+        assertEquals(5, data.getFirstSlot());
+        assertEquals(2, data.getFirstPage());
+        assertEquals(-1, data.getFirstSlot());
+        assertEquals(-1, data.getFirstPage());
+        assertEquals(0, data.getSlots().length);
+    }
+
+    @Test
+    void addGrowsBeyondInitialCapacity() {
+        PaginationData data = new PaginationData();
+        for (int i = 0; i < 100; i++)
+            data.add(i % 54, i / 54);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 54, data.getFirstSlot());
+            assertEquals(i / 54, data.getFirstPage());
+        }
+    }
+
+    @Test
+    void copiesKeepTheirOwnCursor() {
+        PaginationData data = of(1, 0, 2, 0, 3, 0);
+        data.getFirstSlot();
+
+        PaginationData copy = data.newInstance();
+        assertEquals(2, data.getFirstSlot());
+        assertEquals(2, copy.getFirstSlot());
+        assertEquals(3, copy.getFirstSlot());
+        assertEquals(3, data.getFirstSlot());
+    }
+
+    @Test
+    void addingToCopyDoesNotChangeOriginal() {
+        PaginationData data = of(1, 0);
+        PaginationData copy = new PaginationData(data);
+
+        copy.add(2, 0);
+        data.add(3, 1);
+
+        assertArrayEquals(new int[]{1, 2}, copy.getSlots());
+        assertArrayEquals(new int[]{1, 3}, data.getSlots());
+        assertArrayEquals(new int[]{0, 1}, data.getPages());
+    }
+
+    @Test
+    void equalsComparesRemainingSlots() {
+        PaginationData data = of(1, 0, 2, 0);
+        PaginationData other = of(2, 0);
+
+        assertNotEquals(data, other);
+        data.getFirstSlot();
+        data.getFirstPage();
+        assertEquals(data, other);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemData;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationStorageTest {
+
+    private static IntelligentItemData data(int page, int slot) {
+        return new IntelligentItemData(IntelligentItem.empty(new ItemStack(Material.STONE)), page, slot, false, false);
+    }
+
+    private static IntelligentItemData preset(int page, int slot) {
+        return new IntelligentItemData(IntelligentItem.empty(new ItemStack(Material.STONE)), page, slot, false, true);
+    }
+
+    @Test
+    void viewKeepsInsertionOrder() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData first = data(0, 4);
+        IntelligentItemData second = data(0, 1);
+        IntelligentItemData third = data(1, 4);
+
+        storage.add(first);
+        storage.add(second);
+        storage.add(third);
+
+        assertEquals(List.of(first, second, third), storage.view());
+    }
+
+    @Test
+    void firstDataOfSlotIsVisible() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData first = data(0, 3);
+        IntelligentItemData second = data(0, 3);
+
+        storage.add(first);
+        storage.add(second);
+
+        assertSame(first, storage.get(3, 0));
+        assertEquals(1, storage.sizeOfPage(0));
+    }
+
+    @Test
+    void removeDropsEveryDataOfSlot() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData other = data(0, 2);
+        storage.add(data(0, 3));
+        storage.add(other);
+        storage.add(data(0, 3));
+
+        storage.remove(3, 0);
+
+        assertNull(storage.get(3, 0));
+        assertEquals(List.of(other), storage.view());
+        assertEquals(1, storage.sizeOfPage(0));
+    }
+
+    @Test
+    void viewSkipsHolesWithoutChangingStorage() {
+        PaginationStorage storage = new PaginationStorage();
+        List<IntelligentItemData> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            IntelligentItemData itemData = data(i / 20, i % 20);
+            storage.add(itemData);
+            if (i % 2 == 1) expected.add(itemData);
+        }
+        for (int i = 0; i < 40; i += 2)
+            storage.remove(i % 20, i / 20);
+
+        List<IntelligentItemData> view = storage.view();
+        assertEquals(expected.size(), view.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertSame(expected.get(i), view.get(i));
+
+        assertEquals(expected, new ArrayList<>(view));
+        assertEquals(expected, view.stream().collect(Collectors.toList()));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(data(0, 0)));
+    }
+
+    @Test
+    void dataByPageKeepsSharedSlotsAndUnplacedData() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData unplaced = data(0, -1);
+        IntelligentItemData first = data(0, 3);
+        IntelligentItemData other = data(1, 3);
+        IntelligentItemData second = data(0, 3);
+
+        storage.add(unplaced);
+        storage.add(first);
+        storage.add(other);
+        storage.add(second);
+
+        assertEquals(List.of(unplaced, first, second), storage.dataByPage(0));
+        assertEquals(List.of(other), storage.dataByPage(1));
+        assertTrue(storage.dataByPage(2).isEmpty());
+        assertEquals(1, storage.unplaced());
+    }
+
+    @Test
+    void presetIsFoundUntilRemoved() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData preset = preset(0, 5);
+        storage.add(preset);
+
+        assertSame(preset, storage.preset(5));
+        assertEquals(1L << 5, storage.presetMask());
+
+        storage.remove(5, 0);
+
+        assertNull(storage.preset(5));
+        assertEquals(0, storage.presetMask());
+    }
+
+    @Test
+    void rebuildOfViewFollowsChangedSlots() {
+        PaginationStorage storage = new PaginationStorage();
+        IntelligentItemData itemData = data(0, -1);
+        storage.add(itemData);
+
+        itemData.setModifiedSlot(7);
+        itemData.setPage(1);
+        storage.rebuild(storage.view());
+
+        assertSame(itemData, storage.get(7, 1));
+        assertEquals(List.of(itemData), storage.view());
+    }
+
+    @Test
+    void occupiedSlotsEndWithLastUsedPage() {
+        PaginationStorage storage = new PaginationStorage();
+        storage.add(data(0, 1));
+        storage.add(data(2, 0));
+        storage.add(data(3, 4));
+        storage.remove(4, 3);
+
+        assertArrayEquals(new long[]{1L << 1, 0, 1L}, storage.occupiedSlots());
+    }
+
+    @Test
+    void matchesListAfterRandomChanges() {
+        PaginationStorage storage = new PaginationStorage();
+        List<IntelligentItemData> reference = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int page = random.nextInt(3);
+            int slot = random.nextInt(12) - 1;
+
+            if (random.nextInt(3) == 0) {
+                storage.remove(slot, page);
+                if (slot != -1)
+                    reference.removeIf(itemData -> itemData.getPage() == page && itemData.getModifiedSlot() == slot);
+            } else {
+                IntelligentItemData itemData = data(page, slot);
+                storage.add(itemData);
+                reference.add(itemData);
+            }
+
+            assertEquals(reference.size(), storage.view().size());
+        }
+
+        assertEquals(reference, new ArrayList<>(storage.view()));
+        for (int page = 0; page < 3; page++) {
+            int finalPage = page;
+            assertEquals(reference.stream().filter(itemData -> itemData.getPage() == finalPage).collect(Collectors.toList()),
+                    storage.dataByPage(page));
+
+            for (int slot = 0; slot < 11; slot++) {
+                int finalSlot = slot;
+                IntelligentItemData first = reference.stream()
+                        .filter(itemData -> itemData.getPage() == finalPage && itemData.getModifiedSlot() == finalSlot)
+                        .findFirst()
+                        .orElse(null);
+                assertSame(first, storage.get(slot, page));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.enums.UpdatePriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateSchedulerTest {
+
+    /**
+     * A scheduler whose ticks are run by the test instead of the server.
+     */
+    private static final class ManualScheduler extends UpdateScheduler {
+
+        private int tick;
+
+        private ManualScheduler() {
+            super(null);
+            setBudget(0, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        protected void start() {
+        }
+
+        private void tick() {
+            this.tick++;
+            runTick();
+        }
+    }
+
+    @Test
+    void runsAfterDelayAndThenEveryPeriod() {
+        ManualScheduler scheduler = new ManualScheduler();
+        List<Integer> runs = new ArrayList<>();
+        scheduler.schedule(task -> runs.add(scheduler.tick), 3, 5, UpdatePriority.NORMAL);
+
+        for (int i = 0; i < 20; i++)
+            scheduler.tick();
+
+        assertEquals(List.of(3, 8, 13, 18), runs);
+    }
+
+    @Test
+    void periodsLongerThanWheelAreKept() {
+        ManualScheduler scheduler = new ManualScheduler();
+        List<Integer> runs = new ArrayList<>();
+        scheduler.schedule(task -> runs.add(scheduler.tick), 0, 100, UpdatePriority.NORMAL);
+
+        for (int i = 0; i < 250; i++)
+            scheduler.tick();
+
+        assertEquals(List.of(1, 101, 201), runs);
+    }
+
+    @Test
+    void cancelledTasksAreRetired() {
+        ManualScheduler scheduler = new ManualScheduler();
+        List<Integer> runs = new ArrayList<>();
+        scheduler.schedule(task -> {
+            runs.add(scheduler.tick);
+            if (runs.size() == 2) task.cancel();
+        }, 1, 2, UpdatePriority.NORMAL);
+        UpdateScheduler.UpdateTask cancelled = scheduler.schedule(task -> fail("A cancelled task must not run."), 4, 1, UpdatePriority.NORMAL);
+        cancelled.cancel();
+
+        assertEquals(2, scheduler.getActive());
+        for (int i = 0; i < 10; i++)
+            scheduler.tick();
+
+        assertEquals(List.of(1, 3), runs);
+        assertEquals(0, scheduler.getActive());
+    }
+
+    @Test
+    void dueTasksRunByPriority() {
+        ManualScheduler scheduler = new ManualScheduler();
+        List<UpdatePriority> runs = new ArrayList<>();
+        for (UpdatePriority priority : new UpdatePriority[]{UpdatePriority.LOW, UpdatePriority.NORMAL, UpdatePriority.HIGH})
+            scheduler.schedule(task -> runs.add(priority), 1, 10, priority);
+
+        scheduler.tick();
+
+        assertEquals(List.of(UpdatePriority.HIGH, UpdatePriority.NORMAL, UpdatePriority.LOW), runs);
+    }
+
+    @Test
+    void deferredTasksRunInTheNextTick() {
+        ManualScheduler scheduler = new ManualScheduler();
+        scheduler.setBudget(1, TimeUnit.NANOSECONDS);
+        List<String> runs = new ArrayList<>();
+        scheduler.schedule(task -> {
+            runs.add("high " + scheduler.tick);
+            long start = System.nanoTime();
+            while (System.nanoTime() == start) Thread.onSpinWait();
+        }, 1, 10, UpdatePriority.HIGH);
+        scheduler.schedule(task -> runs.add("low " + scheduler.tick), 1, 10, UpdatePriority.LOW);
+
+        scheduler.tick();
+        assertEquals(List.of("high 1"), runs);
+        assertEquals(1, scheduler.getDeferred());
+
+        scheduler.tick();
+        assertEquals(List.of("high 1", "low 2"), runs);
+        assertEquals(0, scheduler.getDeferred());
+        assertEquals(1, scheduler.getTotalDeferred());
+    }
+}
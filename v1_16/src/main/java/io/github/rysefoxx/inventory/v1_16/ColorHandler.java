@@ -26,6 +26,7 @@
 package io.github.rysefoxx.inventory.v1_16;
 
 
+import io.github.rysefoxx.inventory.api.ColorCache;
 import io.github.rysefoxx.inventory.api.IntelligentItemColorWrapper;
 import net.md_5.bungee.api.ChatColor;
 
@@ -34,27 +35,18 @@ import net.md_5.bungee.api.ChatColor;
  * @since 4/22/2022
  */
 public class ColorHandler implements IntelligentItemColorWrapper<ChatColor> {
-    private String toHex(int value) {
-        StringBuilder hex = new StringBuilder(Integer.toHexString(value));
-        while (hex.length() < 2) {
-            hex.append("0");
-        }
-        return hex.toString();
-    }
+
+    private static final ColorCache<ChatColor> COLORS = new ColorCache<>(rgb -> ChatColor.of(ColorCache.toHex(rgb)));
 
     @Override
     public ChatColor getColor(String input, int[] rgb) {
-        if (input == null) {
-            int red = rgb[0];
-            int green = rgb[1];
-            int blue = rgb[2];
+        if (input == null)
+            return COLORS.get(ColorCache.pack(rgb[0], rgb[1], rgb[2]));
 
-            String hex = "#" + toHex(red) + toHex(green) + toHex(blue);
+        int packed = ColorCache.parseHex(input);
+        if (packed == -1)
+            return ChatColor.of(input);
 
-            return ChatColor.of(hex);
-        }
-
-        return ChatColor.of(input);
+        return COLORS.get(packed);
     }
-
 }